@@ -157,6 +157,11 @@ public class MetricsNamingConverter {
             obj.setHttpRequestResetsCount((String)member.getValue());
           }
           break;
+        case "httpTimerSampleRate":
+          if (member.getValue() instanceof String) {
+            obj.setHttpTimerSampleRate((String)member.getValue());
+          }
+          break;
         case "netActiveConnections":
           if (member.getValue() instanceof String) {
             obj.setNetActiveConnections((String)member.getValue());
@@ -182,6 +187,16 @@ public class MetricsNamingConverter {
             obj.setPoolCompleted((String)member.getValue());
           }
           break;
+        case "cardinalityFolded":
+          if (member.getValue() instanceof String) {
+            obj.setCardinalityFolded((String)member.getValue());
+          }
+          break;
+        case "prometheusScrapeTime":
+          if (member.getValue() instanceof String) {
+            obj.setPrometheusScrapeTime((String)member.getValue());
+          }
+          break;
         case "netBytesRead":
           if (member.getValue() instanceof String) {
             obj.setNetBytesRead((String)member.getValue());
@@ -197,6 +212,11 @@ public class MetricsNamingConverter {
             obj.setNetErrorCount((String)member.getValue());
           }
           break;
+        case "netMetersEvicted":
+          if (member.getValue() instanceof String) {
+            obj.setNetMetersEvicted((String)member.getValue());
+          }
+          break;
         case "poolQueueTime":
           if (member.getValue() instanceof String) {
             obj.setPoolQueueTime((String)member.getValue());
@@ -207,6 +227,11 @@ public class MetricsNamingConverter {
             obj.setPoolQueuePending((String)member.getValue());
           }
           break;
+        case "poolQueueMax":
+          if (member.getValue() instanceof String) {
+            obj.setPoolQueueMax((String)member.getValue());
+          }
+          break;
       }
     }
   }
@@ -303,6 +328,9 @@ public class MetricsNamingConverter {
     if (obj.getHttpRequestResetsCount() != null) {
       json.put("httpRequestResetsCount", obj.getHttpRequestResetsCount());
     }
+    if (obj.getHttpTimerSampleRate() != null) {
+      json.put("httpTimerSampleRate", obj.getHttpTimerSampleRate());
+    }
     if (obj.getNetActiveConnections() != null) {
       json.put("netActiveConnections", obj.getNetActiveConnections());
     }
@@ -327,11 +355,23 @@ public class MetricsNamingConverter {
     if (obj.getNetErrorCount() != null) {
       json.put("netErrorCount", obj.getNetErrorCount());
     }
+    if (obj.getNetMetersEvicted() != null) {
+      json.put("netMetersEvicted", obj.getNetMetersEvicted());
+    }
     if (obj.getPoolQueueTime() != null) {
       json.put("poolQueueTime", obj.getPoolQueueTime());
     }
     if (obj.getPoolQueuePending() != null) {
       json.put("poolQueuePending", obj.getPoolQueuePending());
     }
+    if (obj.getPoolQueueMax() != null) {
+      json.put("poolQueueMax", obj.getPoolQueueMax());
+    }
+    if (obj.getCardinalityFolded() != null) {
+      json.put("cardinalityFolded", obj.getCardinalityFolded());
+    }
+    if (obj.getPrometheusScrapeTime() != null) {
+      json.put("prometheusScrapeTime", obj.getPrometheusScrapeTime());
+    }
   }
 }
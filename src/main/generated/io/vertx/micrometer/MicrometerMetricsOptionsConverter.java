@@ -60,6 +60,26 @@ public class MicrometerMetricsOptionsConverter {
             });
           }
           break;
+        case "distributionRules":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<io.vertx.micrometer.DistributionRule> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof JsonObject)
+                list.add(new io.vertx.micrometer.DistributionRule((io.vertx.core.json.JsonObject)item));
+            });
+            obj.setDistributionRules(list);
+          }
+          break;
+        case "cardinalityLimits":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<io.vertx.micrometer.CardinalityLimit> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof JsonObject)
+                list.add(new io.vertx.micrometer.CardinalityLimit((io.vertx.core.json.JsonObject)item));
+            });
+            obj.setCardinalityLimits(list);
+          }
+          break;
         case "influxDbOptions":
           if (member.getValue() instanceof JsonObject) {
             obj.setInfluxDbOptions(new io.vertx.micrometer.VertxInfluxDbOptions((io.vertx.core.json.JsonObject)member.getValue()));
@@ -95,6 +115,56 @@ public class MicrometerMetricsOptionsConverter {
             obj.setMeterCacheEnabled((Boolean)member.getValue());
           }
           break;
+        case "httpTimerSamplingInterval":
+          if (member.getValue() instanceof Number) {
+            obj.setHttpTimerSamplingInterval(((Number)member.getValue()).intValue());
+          }
+          break;
+        case "coarseClockResolution":
+          if (member.getValue() instanceof Number) {
+            obj.setCoarseClockResolution(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "coarseClockResolutionUnit":
+          if (member.getValue() instanceof String) {
+            obj.setCoarseClockResolutionUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+          }
+          break;
+        case "confinedCountersEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setConfinedCountersEnabled((Boolean)member.getValue());
+          }
+          break;
+        case "netMeterIdleTimeout":
+          if (member.getValue() instanceof Number) {
+            obj.setNetMeterIdleTimeout(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "netMeterIdleTimeoutUnit":
+          if (member.getValue() instanceof String) {
+            obj.setNetMeterIdleTimeoutUnit(java.util.concurrent.TimeUnit.valueOf((String)member.getValue()));
+          }
+          break;
+        case "poolQueueMaxEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPoolQueueMaxEnabled((Boolean)member.getValue());
+          }
+          break;
+        case "pathNormalizationEnabled":
+          if (member.getValue() instanceof Boolean) {
+            obj.setPathNormalizationEnabled((Boolean)member.getValue());
+          }
+          break;
+        case "pathTemplates":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.ArrayList<java.lang.String> list =  new java.util.ArrayList<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof String)
+                list.add((String)item);
+            });
+            obj.setPathTemplates(list);
+          }
+          break;
       }
     }
   }
@@ -118,6 +188,16 @@ public class MicrometerMetricsOptionsConverter {
       obj.getLabels().forEach(item -> array.add(item.name()));
       json.put("labels", array);
     }
+    if (obj.getDistributionRules() != null) {
+      JsonArray array = new JsonArray();
+      obj.getDistributionRules().forEach(item -> array.add(item.toJson()));
+      json.put("distributionRules", array);
+    }
+    if (obj.getCardinalityLimits() != null) {
+      JsonArray array = new JsonArray();
+      obj.getCardinalityLimits().forEach(item -> array.add(item.toJson()));
+      json.put("cardinalityLimits", array);
+    }
     if (obj.getInfluxDbOptions() != null) {
       json.put("influxDbOptions", obj.getInfluxDbOptions().toJson());
     }
@@ -133,5 +213,22 @@ public class MicrometerMetricsOptionsConverter {
       json.put("metricsNaming", obj.getMetricsNaming().toJson());
     }
     json.put("meterCacheEnabled", obj.isMeterCacheEnabled());
+    json.put("pathNormalizationEnabled", obj.isPathNormalizationEnabled());
+    json.put("httpTimerSamplingInterval", obj.getHttpTimerSamplingInterval());
+    json.put("coarseClockResolution", obj.getCoarseClockResolution());
+    if (obj.getCoarseClockResolutionUnit() != null) {
+      json.put("coarseClockResolutionUnit", obj.getCoarseClockResolutionUnit().name());
+    }
+    json.put("confinedCountersEnabled", obj.isConfinedCountersEnabled());
+    json.put("netMeterIdleTimeout", obj.getNetMeterIdleTimeout());
+    if (obj.getNetMeterIdleTimeoutUnit() != null) {
+      json.put("netMeterIdleTimeoutUnit", obj.getNetMeterIdleTimeoutUnit().name());
+    }
+    json.put("poolQueueMaxEnabled", obj.isPoolQueueMaxEnabled());
+    if (obj.getPathTemplates() != null) {
+      JsonArray array = new JsonArray();
+      obj.getPathTemplates().forEach(item -> array.add(item));
+      json.put("pathTemplates", array);
+    }
   }
 }
@@ -37,6 +37,41 @@ public class VertxPrometheusOptionsConverter {
             obj.setPublishQuantiles((Boolean)member.getValue());
           }
           break;
+        case "scrapeCacheTtl":
+          if (member.getValue() instanceof Number) {
+            obj.setScrapeCacheTtl(((Number)member.getValue()).longValue());
+          }
+          break;
+        case "compressed":
+          if (member.getValue() instanceof Boolean) {
+            obj.setCompressed((Boolean)member.getValue());
+          }
+          break;
+        case "histogramDomains":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.LinkedHashSet<io.vertx.micrometer.MetricsDomain> list =  new java.util.LinkedHashSet<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof String)
+                list.add(io.vertx.micrometer.MetricsDomain.valueOf((String)item));
+            });
+            obj.setHistogramDomains(list);
+          }
+          break;
+        case "histogramMeterNames":
+          if (member.getValue() instanceof JsonArray) {
+            java.util.LinkedHashSet<java.lang.String> list =  new java.util.LinkedHashSet<>();
+            ((Iterable<Object>)member.getValue()).forEach( item -> {
+              if (item instanceof String)
+                list.add((String)item);
+            });
+            obj.setHistogramMeterNames(list);
+          }
+          break;
+        case "histogramBuckets":
+          if (member.getValue() instanceof Number) {
+            obj.setHistogramBuckets(((Number)member.getValue()).intValue());
+          }
+          break;
       }
     }
   }
@@ -55,5 +90,18 @@ public class VertxPrometheusOptionsConverter {
       json.put("embeddedServerEndpoint", obj.getEmbeddedServerEndpoint());
     }
     json.put("publishQuantiles", obj.isPublishQuantiles());
+    json.put("scrapeCacheTtl", obj.getScrapeCacheTtl());
+    json.put("compressed", obj.isCompressed());
+    if (obj.getHistogramDomains() != null) {
+      JsonArray array = new JsonArray();
+      obj.getHistogramDomains().forEach(item -> array.add(item.name()));
+      json.put("histogramDomains", array);
+    }
+    if (obj.getHistogramMeterNames() != null) {
+      JsonArray array = new JsonArray();
+      obj.getHistogramMeterNames().forEach(item -> array.add(item));
+      json.put("histogramMeterNames", array);
+    }
+    json.put("histogramBuckets", obj.getHistogramBuckets());
   }
 }
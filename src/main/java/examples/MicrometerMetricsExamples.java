@@ -38,8 +38,10 @@ import io.vertx.micrometer.*;
 import io.vertx.micrometer.backends.BackendRegistries;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -136,6 +138,14 @@ public class MicrometerMetricsExamples {
     vertx.createHttpServer().requestHandler(router).listen(8080);
   }
 
+  public void setupPrometheusScrapeCache() {
+    Vertx vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+      new MicrometerMetricsOptions()
+        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true)
+          .setScrapeCacheTtl(1000))
+        .setEnabled(true)));
+  }
+
   public void setupMinimalJMX() {
     Vertx vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
       new MicrometerMetricsOptions()
@@ -215,6 +225,30 @@ public class MicrometerMetricsExamples {
         .setEnabled(true)));
   }
 
+  public void setupWithCardinalityLimits() {
+    Vertx vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+      new MicrometerMetricsOptions()
+        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+        .setLabels(EnumSet.of(Label.HTTP_METHOD, Label.HTTP_CODE, Label.HTTP_PATH))
+        .addCardinalityLimit(new CardinalityLimit()
+          // At most 200 distinct paths in HTTP server metrics
+          .setDomain(MetricsDomain.HTTP_SERVER)
+          .setLabel(Label.HTTP_PATH)
+          .setMaxValues(200))
+        .setEnabled(true)));
+  }
+
+  public void setupWithPathNormalization() {
+    Vertx vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+      new MicrometerMetricsOptions()
+        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+        .setLabels(EnumSet.of(Label.HTTP_METHOD, Label.HTTP_CODE, Label.HTTP_PATH))
+        .setPathNormalizationEnabled(true)
+        // "/users/john/orders/12" => "/users/{user}/orders/{order}"
+        .addPathTemplate("/users/{user}/orders/{order}")
+        .setEnabled(true)));
+  }
+
   public void useMicrometerFilters() {
     MeterRegistry registry = BackendRegistries.getDefaultNow();
     Pattern pattern = Pattern.compile("/foo/bar/.*");
@@ -270,6 +304,85 @@ public class MicrometerMetricsExamples {
         .setEnabled(true)));
   }
 
+  public void enableSelectiveQuantiles() {
+    Vertx vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+      new MicrometerMetricsOptions()
+        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true)
+          .setPublishQuantiles(true)
+          .addHistogramDomains(MetricsDomain.HTTP_SERVER)
+          .addHistogramMeterNames("vertx.http.client.response.time")
+          .setHistogramBuckets(12))
+        .setEnabled(true)));
+  }
+
+  public void configureDistributionRules() {
+    Vertx vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+      new MicrometerMetricsOptions()
+        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true)
+          .setPublishQuantiles(true))
+        .addDistributionRule(new DistributionRule()
+          .setName("vertx.http.server.response.time")
+          .setServiceLevelObjectives(Arrays.asList(5.0, 10.0, 25.0, 50.0, 100.0, 250.0, 500.0, 1000.0))
+          .setPercentilesHistogram(false))
+        .addDistributionRule(new DistributionRule()
+          .setDomain(MetricsDomain.NAMED_POOLS)
+          .setPercentilesHistogram(false))
+        .setEnabled(true)));
+  }
+
+  public void configurePoolPercentiles() {
+    Vertx vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+      new MicrometerMetricsOptions()
+        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+        .addDistributionRule(new DistributionRule()
+          .setDomain(MetricsDomain.NAMED_POOLS)
+          .setPercentiles(Arrays.asList(0.5, 0.99, 0.999))
+          // Percentiles over the last minute, from 3 histograms rotated every 20 seconds
+          .setExpiry(60_000L)
+          .setBufferLength(3)
+          .setPercentilePrecision(2)
+          .setMinimumExpectedValue(1.0)
+          .setMaximumExpectedValue(30_000.0)
+          .addServiceLevelObjective(100))
+        .setEnabled(true)));
+  }
+
+  public void setupHttpTimerSampling() {
+    Vertx vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+      new MicrometerMetricsOptions()
+        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+        // Time one out of 10 requests
+        .setHttpTimerSamplingInterval(10)
+        .setEnabled(true)));
+  }
+
+  public void setupCoarseClock() {
+    Vertx vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+      new MicrometerMetricsOptions()
+        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+        .setCoarseClockResolution(1)
+        .setCoarseClockResolutionUnit(TimeUnit.MILLISECONDS)
+        .setEnabled(true)));
+  }
+
+  public void setupConfinedCounters() {
+    Vertx vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+      new MicrometerMetricsOptions()
+        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+        .setConfinedCountersEnabled(true)
+        .setEnabled(true)));
+  }
+
+  public void setupNetMeterIdleTimeout() {
+    Vertx vertx = Vertx.vertx(new VertxOptions().setMetricsOptions(
+      new MicrometerMetricsOptions()
+        .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true))
+        .addLabels(Label.REMOTE)
+        .setNetMeterIdleTimeout(10)
+        .setNetMeterIdleTimeoutUnit(TimeUnit.MINUTES)
+        .setEnabled(true)));
+  }
+
   public void enableLimitedQuantiles() {
     PrometheusMeterRegistry registry = (PrometheusMeterRegistry) BackendRegistries.getDefaultNow();
     registry.config().meterFilter(
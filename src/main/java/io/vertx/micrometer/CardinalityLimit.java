@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * A limit of the number of distinct values of a label in a domain.
+ * <p>
+ * Once the limit is reached, new values are replaced with {@link #OVERFLOW_VALUE}. Limits apply to the
+ * {@link Label#HTTP_PATH}, {@link Label#HTTP_ROUTE}, {@link Label#REMOTE} and {@link Label#EB_ADDRESS} labels.
+ */
+@DataObject
+public class CardinalityLimit {
+
+  /**
+   * The value replacing label values past the limit = {@code _other}.
+   */
+  public static final String OVERFLOW_VALUE = "_other";
+
+  /**
+   * The default maximum number of distinct values = 1000.
+   */
+  public static final int DEFAULT_MAX_VALUES = 1000;
+
+  private MetricsDomain domain;
+  private Label label;
+  private int maxValues;
+
+  /**
+   * Default constructor
+   */
+  public CardinalityLimit() {
+    maxValues = DEFAULT_MAX_VALUES;
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other The other {@link CardinalityLimit} to copy when creating this
+   */
+  public CardinalityLimit(CardinalityLimit other) {
+    domain = other.domain;
+    label = other.label;
+    maxValues = other.maxValues;
+  }
+
+  /**
+   * Create an instance from a {@link JsonObject}
+   *
+   * @param json the JsonObject to create it from
+   */
+  public CardinalityLimit(JsonObject json) {
+    if (json.containsKey("domain")) {
+      domain = MetricsDomain.valueOf(json.getString("domain"));
+    }
+    if (json.containsKey("label")) {
+      label = Label.valueOf(json.getString("label"));
+    }
+    maxValues = json.getInteger("maxValues", DEFAULT_MAX_VALUES);
+  }
+
+  /**
+   * @return a JSON representation of this limit
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    if (domain != null) {
+      json.put("domain", domain.name());
+    }
+    if (label != null) {
+      json.put("label", label.name());
+    }
+    json.put("maxValues", maxValues);
+    return json;
+  }
+
+  /**
+   * @return the limit domain
+   */
+  public MetricsDomain getDomain() {
+    return domain;
+  }
+
+  /**
+   * Set the limit domain. When not set, the limit applies to all domains, each domain counting its values separately.
+   *
+   * @param domain the limit domain
+   * @return a reference to this, so the API can be used fluently
+   */
+  public CardinalityLimit setDomain(MetricsDomain domain) {
+    this.domain = domain;
+    return this;
+  }
+
+  /**
+   * @return the limited label
+   */
+  public Label getLabel() {
+    return label;
+  }
+
+  /**
+   * Set the limited label.
+   *
+   * @param label the label
+   * @return a reference to this, so the API can be used fluently
+   */
+  public CardinalityLimit setLabel(Label label) {
+    this.label = label;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of distinct values
+   */
+  public int getMaxValues() {
+    return maxValues;
+  }
+
+  /**
+   * Set the maximum number of distinct values of the label. Defaults to {@code 1000}.
+   *
+   * @param maxValues the maximum number of distinct values
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if {@code maxValues} is negative
+   */
+  public CardinalityLimit setMaxValues(int maxValues) {
+    if (maxValues < 0) {
+      throw new IllegalArgumentException("maxValues must not be negative: " + maxValues);
+    }
+    this.maxValues = maxValues;
+    return this;
+  }
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A rule configuring the distribution statistics (histogram buckets, expected values...) of timers and distribution
+ * summaries.
+ * <p>
+ * A rule applies to the meters of its {@link #setDomain(MetricsDomain) domain} whose name matches
+ * {@link #setName(String) name}. When several rules apply to a meter, the settings of the first ones take precedence.
+ * <p>
+ * Values of timers are expressed in milliseconds.
+ */
+@DataObject
+public class DistributionRule {
+
+  private MetricsDomain domain;
+  private String name;
+  private List<Double> serviceLevelObjectives;
+  private Double minimumExpectedValue;
+  private Double maximumExpectedValue;
+  private Integer percentilePrecision;
+  private Integer bufferLength;
+  private Boolean percentilesHistogram;
+  private List<Double> percentiles;
+  private Long expiry;
+
+  /**
+   * Default constructor
+   */
+  public DistributionRule() {
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param other The other {@link DistributionRule} to copy when creating this
+   */
+  public DistributionRule(DistributionRule other) {
+    domain = other.domain;
+    name = other.name;
+    serviceLevelObjectives = other.serviceLevelObjectives != null ? new ArrayList<>(other.serviceLevelObjectives) : null;
+    minimumExpectedValue = other.minimumExpectedValue;
+    maximumExpectedValue = other.maximumExpectedValue;
+    percentilePrecision = other.percentilePrecision;
+    bufferLength = other.bufferLength;
+    percentilesHistogram = other.percentilesHistogram;
+    percentiles = other.percentiles != null ? new ArrayList<>(other.percentiles) : null;
+    expiry = other.expiry;
+  }
+
+  /**
+   * Create an instance from a {@link JsonObject}
+   *
+   * @param json the JsonObject to create it from
+   */
+  public DistributionRule(JsonObject json) {
+    if (json.containsKey("domain")) {
+      domain = MetricsDomain.valueOf(json.getString("domain"));
+    }
+    name = json.getString("name");
+    JsonArray slos = json.getJsonArray("serviceLevelObjectives");
+    if (slos != null) {
+      serviceLevelObjectives = new ArrayList<>();
+      slos.forEach(slo -> {
+        if (slo instanceof Number) serviceLevelObjectives.add(((Number) slo).doubleValue());
+      });
+    }
+    minimumExpectedValue = json.getDouble("minimumExpectedValue");
+    maximumExpectedValue = json.getDouble("maximumExpectedValue");
+    percentilePrecision = json.getInteger("percentilePrecision");
+    bufferLength = json.getInteger("bufferLength");
+    percentilesHistogram = json.getBoolean("percentilesHistogram");
+    JsonArray pcts = json.getJsonArray("percentiles");
+    if (pcts != null) {
+      percentiles = new ArrayList<>();
+      pcts.forEach(pct -> {
+        if (pct instanceof Number) percentiles.add(((Number) pct).doubleValue());
+      });
+    }
+    expiry = json.getLong("expiry");
+  }
+
+  /**
+   * @return a JSON representation of this rule
+   */
+  public JsonObject toJson() {
+    JsonObject json = new JsonObject();
+    if (domain != null) {
+      json.put("domain", domain.name());
+    }
+    if (name != null) {
+      json.put("name", name);
+    }
+    if (serviceLevelObjectives != null) {
+      json.put("serviceLevelObjectives", new JsonArray(new ArrayList<>(serviceLevelObjectives)));
+    }
+    if (minimumExpectedValue != null) {
+      json.put("minimumExpectedValue", minimumExpectedValue);
+    }
+    if (maximumExpectedValue != null) {
+      json.put("maximumExpectedValue", maximumExpectedValue);
+    }
+    if (percentilePrecision != null) {
+      json.put("percentilePrecision", percentilePrecision);
+    }
+    if (bufferLength != null) {
+      json.put("bufferLength", bufferLength);
+    }
+    if (percentilesHistogram != null) {
+      json.put("percentilesHistogram", percentilesHistogram);
+    }
+    if (percentiles != null) {
+      json.put("percentiles", new JsonArray(new ArrayList<>(percentiles)));
+    }
+    if (expiry != null) {
+      json.put("expiry", expiry);
+    }
+    return json;
+  }
+
+  /**
+   * @return the rule domain
+   */
+  public MetricsDomain getDomain() {
+    return domain;
+  }
+
+  /**
+   * Set the rule domain, restricting this rule to a single domain.
+   *
+   * @param domain the rule domain
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DistributionRule setDomain(MetricsDomain domain) {
+    this.domain = domain;
+    return this;
+  }
+
+  /**
+   * @return the meter name pattern
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Set the name of the meters this rule applies to. A name ending with {@code *} matches all meters starting with
+   * the preceding characters, e.g. {@code vertx.pool.*}. When not set, the rule applies to all meters of its domain.
+   *
+   * @param name the meter name pattern
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DistributionRule setName(String name) {
+    this.name = name;
+    return this;
+  }
+
+  /**
+   * @return the service level objectives
+   */
+  public List<Double> getServiceLevelObjectives() {
+    return serviceLevelObjectives;
+  }
+
+  /**
+   * Set the service level objectives, published as fixed histogram buckets. Expressed in milliseconds for timers.
+   *
+   * @param serviceLevelObjectives the service level objectives
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DistributionRule setServiceLevelObjectives(List<Double> serviceLevelObjectives) {
+    this.serviceLevelObjectives = serviceLevelObjectives;
+    return this;
+  }
+
+  /**
+   * Add a service level objective.
+   *
+   * @param serviceLevelObjective the service level objective, in milliseconds for timers
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DistributionRule addServiceLevelObjective(double serviceLevelObjective) {
+    if (serviceLevelObjectives == null) {
+      serviceLevelObjectives = new ArrayList<>();
+    }
+    serviceLevelObjectives.add(serviceLevelObjective);
+    return this;
+  }
+
+  /**
+   * @return the minimum expected value
+   */
+  public Double getMinimumExpectedValue() {
+    return minimumExpectedValue;
+  }
+
+  /**
+   * Set the minimum expected value, bounding the percentiles histogram buckets. Expressed in milliseconds for timers.
+   *
+   * @param minimumExpectedValue the minimum expected value
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DistributionRule setMinimumExpectedValue(Double minimumExpectedValue) {
+    this.minimumExpectedValue = minimumExpectedValue;
+    return this;
+  }
+
+  /**
+   * @return the maximum expected value
+   */
+  public Double getMaximumExpectedValue() {
+    return maximumExpectedValue;
+  }
+
+  /**
+   * Set the maximum expected value, bounding the percentiles histogram buckets. Expressed in milliseconds for timers.
+   *
+   * @param maximumExpectedValue the maximum expected value
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DistributionRule setMaximumExpectedValue(Double maximumExpectedValue) {
+    this.maximumExpectedValue = maximumExpectedValue;
+    return this;
+  }
+
+  /**
+   * @return the percentile precision
+   */
+  public Integer getPercentilePrecision() {
+    return percentilePrecision;
+  }
+
+  /**
+   * Set the number of digits of precision to maintain on the dynamic range histogram used to compute client-side
+   * percentiles. Higher precision costs more memory.
+   *
+   * @param percentilePrecision the percentile precision
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DistributionRule setPercentilePrecision(Integer percentilePrecision) {
+    this.percentilePrecision = percentilePrecision;
+    return this;
+  }
+
+  /**
+   * @return the buffer length
+   */
+  public Integer getBufferLength() {
+    return bufferLength;
+  }
+
+  /**
+   * Set the number of histograms kept in the ring buffer used to compute client-side statistics.
+   *
+   * @param bufferLength the buffer length
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DistributionRule setBufferLength(Integer bufferLength) {
+    this.bufferLength = bufferLength;
+    return this;
+  }
+
+  /**
+   * @return whether the percentiles histogram is published
+   */
+  public Boolean getPercentilesHistogram() {
+    return percentilesHistogram;
+  }
+
+  /**
+   * Set whether the percentiles histogram is published. Setting {@code false} disables the percentiles histogram enabled
+   * for other reasons, like {@link VertxPrometheusOptions#setPublishQuantiles(boolean)}.
+   *
+   * @param percentilesHistogram the percentiles histogram flag
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DistributionRule setPercentilesHistogram(Boolean percentilesHistogram) {
+    this.percentilesHistogram = percentilesHistogram;
+    return this;
+  }
+
+  /**
+   * @return the client-side percentiles
+   */
+  public List<Double> getPercentiles() {
+    return percentiles;
+  }
+
+  /**
+   * Set the percentiles computed client-side and published as gauges, e.g. {@code 0.99}.
+   * <p>
+   * Percentiles are computed from a ring buffer of {@link #setBufferLength(Integer) bufferLength} HDR histograms,
+   * rotated every {@link #setExpiry(Long) expiry}: they reflect a decaying window of recent values, with a memory cost
+   * per meter fixed by the buffer length, the {@link #setPercentilePrecision(Integer) precision} and the expected values.
+   * They can't be aggregated across dimensions.
+   *
+   * @param percentiles the client-side percentiles
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DistributionRule setPercentiles(List<Double> percentiles) {
+    this.percentiles = percentiles;
+    return this;
+  }
+
+  /**
+   * Add a client-side percentile.
+   *
+   * @param percentile the percentile, e.g. {@code 0.99}
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DistributionRule addPercentile(double percentile) {
+    if (percentiles == null) {
+      percentiles = new ArrayList<>();
+    }
+    percentiles.add(percentile);
+    return this;
+  }
+
+  /**
+   * @return the expiry, in milliseconds
+   */
+  public Long getExpiry() {
+    return expiry;
+  }
+
+  /**
+   * Set the time after which values are discarded from client-side statistics, in milliseconds. The ring buffer of
+   * histograms is rotated every {@code expiry / bufferLength}.
+   *
+   * @param expiry the expiry, in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public DistributionRule setExpiry(Long expiry) {
+    this.expiry = expiry;
+    return this;
+  }
+}
@@ -57,16 +57,21 @@ public class MetricsNaming {
   private String httpResponseBytes;
   private String httpActiveWsConnections;
   private String httpRequestResetsCount;
+  private String httpTimerSampleRate;
   private String netActiveConnections;
   private String netBytesRead;
   private String netBytesWritten;
   private String netErrorCount;
+  private String netMetersEvicted;
   private String poolQueueTime;
   private String poolQueuePending;
+  private String poolQueueMax;
   private String poolUsage;
   private String poolInUse;
   private String poolUsageRatio;
   private String poolCompleted;
+  private String cardinalityFolded;
+  private String prometheusScrapeTime;
 
   /**
    * Default constructor
@@ -109,16 +114,21 @@ public class MetricsNaming {
     httpResponseBytes = other.httpResponseBytes;
     httpActiveWsConnections = other.httpActiveWsConnections;
     httpRequestResetsCount = other.httpRequestResetsCount;
+    httpTimerSampleRate = other.httpTimerSampleRate;
     netActiveConnections = other.netActiveConnections;
     netBytesRead = other.netBytesRead;
     netBytesWritten = other.netBytesWritten;
     netErrorCount = other.netErrorCount;
+    netMetersEvicted = other.netMetersEvicted;
     poolQueueTime = other.poolQueueTime;
     poolQueuePending = other.poolQueuePending;
+    poolQueueMax = other.poolQueueMax;
     poolUsage = other.poolUsage;
     poolInUse = other.poolInUse;
     poolUsageRatio = other.poolUsageRatio;
     poolCompleted = other.poolCompleted;
+    cardinalityFolded = other.cardinalityFolded;
+    prometheusScrapeTime = other.prometheusScrapeTime;
   }
 
   /**
@@ -175,16 +185,21 @@ public class MetricsNaming {
     mn.httpResponseBytes = "response.bytes";
     mn.httpActiveWsConnections = "wsConnections";
     mn.httpRequestResetsCount = "requestResetCount";
+    mn.httpTimerSampleRate = "timerSampleRate";
     mn.netActiveConnections = "connections";
     mn.netBytesRead = "bytesReceived";
     mn.netBytesWritten = "bytesSent";
     mn.netErrorCount = "errors";
+    mn.netMetersEvicted = "metersEvicted";
     mn.poolQueueTime = "queue.delay";
     mn.poolQueuePending = "queue.size";
+    mn.poolQueueMax = "queue.maxSize";
     mn.poolUsage = "usage";
     mn.poolInUse = "inUse";
     mn.poolUsageRatio = "ratio";
     mn.poolCompleted = "completed";
+    mn.cardinalityFolded = "cardinalityFolded";
+    mn.prometheusScrapeTime = "prometheus.scrapeTime";
     return mn;
   }
 
@@ -219,16 +234,21 @@ public class MetricsNaming {
     mn.httpResponseBytes = "response.bytes";
     mn.httpActiveWsConnections = "active.ws.connections";
     mn.httpRequestResetsCount = "request.resets";
+    mn.httpTimerSampleRate = "timer.sample.rate";
     mn.netActiveConnections = "active.connections";
     mn.netBytesRead = "bytes.read";
     mn.netBytesWritten = "bytes.written";
     mn.netErrorCount = "errors";
+    mn.netMetersEvicted = "meters.evicted";
     mn.poolQueueTime = "queue.time";
     mn.poolQueuePending = "queue.pending";
+    mn.poolQueueMax = "queue.max";
     mn.poolUsage = "usage";
     mn.poolInUse = "in.use";
     mn.poolUsageRatio = "ratio";
     mn.poolCompleted = "completed";
+    mn.cardinalityFolded = "cardinality.folded";
+    mn.prometheusScrapeTime = "prometheus.scrape.time";
     return mn;
   }
 
@@ -348,6 +368,10 @@ public class MetricsNaming {
     return httpRequestResetsCount;
   }
 
+  public String getHttpTimerSampleRate() {
+    return httpTimerSampleRate;
+  }
+
   public String getNetActiveConnections() {
     return netActiveConnections;
   }
@@ -513,6 +537,11 @@ public class MetricsNaming {
     return this;
   }
 
+  public MetricsNaming setHttpTimerSampleRate(String httpTimerSampleRate) {
+    this.httpTimerSampleRate = httpTimerSampleRate;
+    return this;
+  }
+
   public MetricsNaming setNetActiveConnections(String netActiveConnections) {
     this.netActiveConnections = netActiveConnections;
     return this;
@@ -560,11 +589,20 @@ public class MetricsNaming {
     return netErrorCount;
   }
 
+  public String getNetMetersEvicted() {
+    return netMetersEvicted;
+  }
+
   public MetricsNaming setNetErrorCount(String netErrorCount) {
     this.netErrorCount = netErrorCount;
     return this;
   }
 
+  public MetricsNaming setNetMetersEvicted(String netMetersEvicted) {
+    this.netMetersEvicted = netMetersEvicted;
+    return this;
+  }
+
   public String getPoolQueueTime() {
     return poolQueueTime;
   }
@@ -583,6 +621,33 @@ public class MetricsNaming {
     return this;
   }
 
+  public String getPoolQueueMax() {
+    return poolQueueMax;
+  }
+
+  public MetricsNaming setPoolQueueMax(String poolQueueMax) {
+    this.poolQueueMax = poolQueueMax;
+    return this;
+  }
+
+  public String getCardinalityFolded() {
+    return cardinalityFolded;
+  }
+
+  public MetricsNaming setCardinalityFolded(String cardinalityFolded) {
+    this.cardinalityFolded = cardinalityFolded;
+    return this;
+  }
+
+  public String getPrometheusScrapeTime() {
+    return prometheusScrapeTime;
+  }
+
+  public MetricsNaming setPrometheusScrapeTime(String prometheusScrapeTime) {
+    this.prometheusScrapeTime = prometheusScrapeTime;
+    return this;
+  }
+
   public MetricsNaming withBaseName(String baseName) {
     if (baseName == null || baseName.isEmpty()) {
       return new MetricsNaming(this);
@@ -617,16 +682,21 @@ public class MetricsNaming {
     copy.httpResponseBytes = baseName + this.httpResponseBytes;
     copy.httpActiveWsConnections = baseName + this.httpActiveWsConnections;
     copy.httpRequestResetsCount = baseName + this.httpRequestResetsCount;
+    copy.httpTimerSampleRate = baseName + this.httpTimerSampleRate;
     copy.netActiveConnections = baseName + this.netActiveConnections;
     copy.netBytesRead = baseName + this.netBytesRead;
     copy.netBytesWritten = baseName + this.netBytesWritten;
     copy.netErrorCount = baseName + this.netErrorCount;
+    copy.netMetersEvicted = baseName + this.netMetersEvicted;
     copy.poolQueueTime = baseName + this.poolQueueTime;
     copy.poolQueuePending = baseName + this.poolQueuePending;
+    copy.poolQueueMax = baseName + this.poolQueueMax;
     copy.poolUsage = baseName + this.poolUsage;
     copy.poolInUse = baseName + this.poolInUse;
     copy.poolUsageRatio = baseName + this.poolUsageRatio;
     copy.poolCompleted = baseName + this.poolCompleted;
+    copy.cardinalityFolded = baseName + this.cardinalityFolded;
+    copy.prometheusScrapeTime = baseName + this.prometheusScrapeTime;
     return copy;
   }
 }
@@ -15,7 +15,6 @@
  */
 package io.vertx.micrometer;
 
-import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.vertx.core.VertxOptions;
 import io.vertx.core.json.JsonObject;
@@ -25,14 +24,10 @@ import io.vertx.core.spi.metrics.VertxMetrics;
 import io.vertx.micrometer.backends.BackendRegistries;
 import io.vertx.micrometer.backends.BackendRegistry;
 import io.vertx.micrometer.impl.VertxMetricsImpl;
+import io.vertx.micrometer.impl.meters.ConfinedCounters;
+import io.vertx.micrometer.impl.meters.GaugeStore;
 import io.vertx.micrometer.impl.meters.LongGauges;
 
-import java.util.Map;
-import java.util.WeakHashMap;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.LongAdder;
-
 /**
  * The micrometer metrics registry.
  *
@@ -40,8 +35,6 @@ import java.util.concurrent.atomic.LongAdder;
  */
 public class MicrometerMetricsFactory implements VertxMetricsFactory {
 
-  private static final Map<MeterRegistry, ConcurrentMap<Meter.Id, LongAdder>> longGaugesByRegistry = new WeakHashMap<>(1);
-
   private final MeterRegistry micrometerRegistry;
 
   public MicrometerMetricsFactory() {
@@ -79,11 +72,8 @@ public class MicrometerMetricsFactory implements VertxMetricsFactory {
       options = new MicrometerMetricsOptions(metricsOptions.toJson());
     }
     BackendRegistry backendRegistry = BackendRegistries.setupBackend(options, micrometerRegistry);
-    ConcurrentMap<Meter.Id, LongAdder> longGauges;
-    synchronized (longGaugesByRegistry) {
-      longGauges = longGaugesByRegistry.computeIfAbsent(backendRegistry.getMeterRegistry(), meterRegistry -> new ConcurrentHashMap<>());
-    }
-    VertxMetricsImpl metrics = new VertxMetricsImpl(options, backendRegistry, new LongGauges(longGauges));
+    GaugeStore gaugeStore = GaugeStore.of(backendRegistry.getMeterRegistry());
+    VertxMetricsImpl metrics = new VertxMetricsImpl(options, backendRegistry, new LongGauges(gaugeStore), new ConfinedCounters(gaugeStore));
     metrics.init();
 
     return metrics;
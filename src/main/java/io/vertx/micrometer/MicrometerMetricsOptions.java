@@ -25,6 +25,7 @@ import io.vertx.core.metrics.MetricsOptions;
 import io.vertx.core.spi.observability.HttpRequest;
 
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import static io.vertx.micrometer.Label.*;
@@ -68,15 +69,55 @@ public class MicrometerMetricsOptions extends MetricsOptions {
 
   /**
    * Whether a meter cache should be enabled by default = true.
-   * @deprecated as of 5.1, this is no longer used since Vert.x 5.0
    */
-  @Deprecated(forRemoval = true)
   public static final boolean DEFAULT_METER_CACHED_ENABLED = true;
 
+  /**
+   * Default value for path normalization enabled = false.
+   */
+  public static final boolean DEFAULT_PATH_NORMALIZATION_ENABLED = false;
+
+  /**
+   * Default value for the HTTP timer sampling interval = 1 (all requests are timed).
+   */
+  public static final int DEFAULT_HTTP_TIMER_SAMPLING_INTERVAL = 1;
+
+  /**
+   * Default value for the coarse clock resolution = 0 (timers use the system clock).
+   */
+  public static final long DEFAULT_COARSE_CLOCK_RESOLUTION = 0;
+
+  /**
+   * Default value for the coarse clock resolution unit = {@link TimeUnit#MILLISECONDS}.
+   */
+  public static final TimeUnit DEFAULT_COARSE_CLOCK_RESOLUTION_UNIT = TimeUnit.MILLISECONDS;
+
+  /**
+   * Default value for confined counters enabled = false.
+   */
+  public static final boolean DEFAULT_CONFINED_COUNTERS_ENABLED = false;
+
+  /**
+   * Default value for the net meter idle timeout = 0 (meters are never removed).
+   */
+  public static final long DEFAULT_NET_METER_IDLE_TIMEOUT = 0;
+
+  /**
+   * Default value for the net meter idle timeout unit = {@link TimeUnit#SECONDS}.
+   */
+  public static final TimeUnit DEFAULT_NET_METER_IDLE_TIMEOUT_UNIT = TimeUnit.SECONDS;
+
+  /**
+   * Default value for pool queue max enabled = false.
+   */
+  public static final boolean DEFAULT_POOL_QUEUE_MAX_ENABLED = false;
+
   private Set<String> disabledMetricsCategories;
   private String registryName;
   private Set<Label> labels;
   private List<Match> labelMatches;
+  private List<DistributionRule> distributionRules;
+  private List<CardinalityLimit> cardinalityLimits;
   private VertxInfluxDbOptions influxDbOptions;
   private VertxPrometheusOptions prometheusOptions;
   private VertxJmxMetricsOptions jmxMetricsOptions;
@@ -85,6 +126,16 @@ public class MicrometerMetricsOptions extends MetricsOptions {
   private MetricsNaming metricsNaming;
   private Function<HttpRequest, Iterable<Tag>> serverRequestTagsProvider;
   private Function<HttpRequest, Iterable<Tag>> clientRequestTagsProvider;
+  private boolean meterCacheEnabled;
+  private boolean pathNormalizationEnabled;
+  private List<String> pathTemplates;
+  private int httpTimerSamplingInterval;
+  private long coarseClockResolution;
+  private TimeUnit coarseClockResolutionUnit;
+  private boolean confinedCountersEnabled;
+  private long netMeterIdleTimeout;
+  private TimeUnit netMeterIdleTimeoutUnit;
+  private boolean poolQueueMaxEnabled;
 
   /**
    * Creates default options for Micrometer metrics.
@@ -94,11 +145,23 @@ public class MicrometerMetricsOptions extends MetricsOptions {
     registryName = DEFAULT_REGISTRY_NAME;
     labels = EnumSet.copyOf(DEFAULT_LABELS);
     labelMatches = new ArrayList<>();
+    distributionRules = new ArrayList<>();
+    cardinalityLimits = new ArrayList<>();
     jvmMetricsEnabled = DEFAULT_JVM_METRICS_ENABLED;
     nettyMetricsEnabled = DEFAULT_NETTY_METRICS_ENABLED;
     metricsNaming = DEFAULT_METRICS_NAMING;
     serverRequestTagsProvider = null;
     clientRequestTagsProvider = null;
+    meterCacheEnabled = DEFAULT_METER_CACHED_ENABLED;
+    pathNormalizationEnabled = DEFAULT_PATH_NORMALIZATION_ENABLED;
+    pathTemplates = new ArrayList<>();
+    httpTimerSamplingInterval = DEFAULT_HTTP_TIMER_SAMPLING_INTERVAL;
+    coarseClockResolution = DEFAULT_COARSE_CLOCK_RESOLUTION;
+    coarseClockResolutionUnit = DEFAULT_COARSE_CLOCK_RESOLUTION_UNIT;
+    confinedCountersEnabled = DEFAULT_CONFINED_COUNTERS_ENABLED;
+    netMeterIdleTimeout = DEFAULT_NET_METER_IDLE_TIMEOUT;
+    netMeterIdleTimeoutUnit = DEFAULT_NET_METER_IDLE_TIMEOUT_UNIT;
+    poolQueueMaxEnabled = DEFAULT_POOL_QUEUE_MAX_ENABLED;
   }
 
   /**
@@ -110,6 +173,8 @@ public class MicrometerMetricsOptions extends MetricsOptions {
     registryName = other.registryName;
     labels = other.labels != null ? EnumSet.copyOf(other.labels) : EnumSet.noneOf(Label.class);
     labelMatches = new ArrayList<>(other.labelMatches);
+    distributionRules = new ArrayList<>(other.distributionRules);
+    cardinalityLimits = new ArrayList<>(other.cardinalityLimits);
     if (other.influxDbOptions != null) {
       influxDbOptions = new VertxInfluxDbOptions(other.influxDbOptions);
     }
@@ -124,6 +189,16 @@ public class MicrometerMetricsOptions extends MetricsOptions {
     metricsNaming = other.metricsNaming;
     serverRequestTagsProvider = other.serverRequestTagsProvider;
     clientRequestTagsProvider = other.clientRequestTagsProvider;
+    meterCacheEnabled = other.meterCacheEnabled;
+    pathNormalizationEnabled = other.pathNormalizationEnabled;
+    pathTemplates = new ArrayList<>(other.pathTemplates);
+    httpTimerSamplingInterval = other.httpTimerSamplingInterval;
+    coarseClockResolution = other.coarseClockResolution;
+    coarseClockResolutionUnit = other.coarseClockResolutionUnit;
+    confinedCountersEnabled = other.confinedCountersEnabled;
+    netMeterIdleTimeout = other.netMeterIdleTimeout;
+    netMeterIdleTimeoutUnit = other.netMeterIdleTimeoutUnit;
+    poolQueueMaxEnabled = other.poolQueueMaxEnabled;
   }
 
   /**
@@ -313,6 +388,65 @@ public class MicrometerMetricsOptions extends MetricsOptions {
     return this;
   }
 
+  /**
+   * @return the list of distribution rules
+   */
+  public List<DistributionRule> getDistributionRules() {
+    return distributionRules;
+  }
+
+  /**
+   * Set a list of rules configuring the distribution statistics of timers and distribution summaries.
+   *
+   * @param rules the new list of rules
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MicrometerMetricsOptions setDistributionRules(List<DistributionRule> rules) {
+    distributionRules = new ArrayList<>(rules);
+    return this;
+  }
+
+  /**
+   * Add a rule configuring the distribution statistics of timers and distribution summaries.
+   *
+   * @param rule the distribution rule
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MicrometerMetricsOptions addDistributionRule(DistributionRule rule) {
+    distributionRules.add(rule);
+    return this;
+  }
+
+  /**
+   * @return the list of cardinality limits
+   */
+  public List<CardinalityLimit> getCardinalityLimits() {
+    return cardinalityLimits;
+  }
+
+  /**
+   * Set a list of limits of the number of distinct label values. Values past a limit are replaced with
+   * {@link CardinalityLimit#OVERFLOW_VALUE}.
+   *
+   * @param limits the new list of limits
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MicrometerMetricsOptions setCardinalityLimits(List<CardinalityLimit> limits) {
+    cardinalityLimits = new ArrayList<>(limits);
+    return this;
+  }
+
+  /**
+   * Add a limit of the number of distinct label values.
+   *
+   * @param limit the cardinality limit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MicrometerMetricsOptions addCardinalityLimit(CardinalityLimit limit) {
+    cardinalityLimits.add(limit);
+    return this;
+  }
+
   /**
    * Get the specific options for InfluxDB reporting.
    */
@@ -462,22 +596,241 @@ public class MicrometerMetricsOptions extends MetricsOptions {
 
   /**
    * @return {@code true} if a meter cache should be enabled, {@code false} otherwise
-   * @deprecated as of 5.1, this is no longer used since Vert.x 5.0
    */
-  @Deprecated(forRemoval = true)
   public boolean isMeterCacheEnabled() {
-    return false;
+    return meterCacheEnabled;
   }
 
   /**
    * Whether a meter cache should be enabled. Defaults to {@code true}.
+   * <p>
+   * When enabled, meters resolved on hot paths (e.g. HTTP server responses) are kept in a bounded cache
+   * keyed by their tags, which avoids a registry lookup for every event. The cache is cleared when meters are removed
+   * from the registry, so removed meters are registered again on the next event.
    *
    * @param meterCacheEnabled {@code true} to enable a meter cache, {@code false} otherwise. Defaults to {@code true}.
    * @return a reference to this, so the API can be used fluently
-   * @deprecated as of 5.1, this is no longer used since Vert.x 5.0
    */
-  @Deprecated(forRemoval = true)
   public MicrometerMetricsOptions setMeterCacheEnabled(boolean meterCacheEnabled) {
+    this.meterCacheEnabled = meterCacheEnabled;
+    return this;
+  }
+
+  /**
+   * @return {@code true} if HTTP paths are normalized, {@code false} otherwise
+   */
+  public boolean isPathNormalizationEnabled() {
+    return pathNormalizationEnabled;
+  }
+
+  /**
+   * Whether HTTP paths should be normalized before being used as {@link Label#HTTP_PATH} values. Defaults to {@code false}.
+   * <p>
+   * When enabled, paths matching one of the {@link #setPathTemplates(List) path templates} are replaced with the
+   * template. Otherwise, numeric, UUID and hexadecimal segments are replaced with {@code {id}}, {@code {uuid}} and
+   * {@code {hex}} respectively.
+   *
+   * @param pathNormalizationEnabled {@code true} to normalize HTTP paths, {@code false} otherwise
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MicrometerMetricsOptions setPathNormalizationEnabled(boolean pathNormalizationEnabled) {
+    this.pathNormalizationEnabled = pathNormalizationEnabled;
+    return this;
+  }
+
+  /**
+   * @return the list of path templates
+   */
+  public List<String> getPathTemplates() {
+    return pathTemplates;
+  }
+
+  /**
+   * Set a list of templates used to normalize HTTP paths, e.g. {@code /users/{id}/orders}. A segment enclosed in braces
+   * matches any non-empty segment. Templates are only used when path normalization is enabled.
+   *
+   * @param pathTemplates the new list of path templates
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MicrometerMetricsOptions setPathTemplates(List<String> pathTemplates) {
+    this.pathTemplates = new ArrayList<>(pathTemplates);
+    return this;
+  }
+
+  /**
+   * Add a template used to normalize HTTP paths.
+   *
+   * @param pathTemplate the path template
+   * @return a reference to this, so the API can be used fluently
+   * @see #setPathTemplates(List)
+   */
+  public MicrometerMetricsOptions addPathTemplate(String pathTemplate) {
+    pathTemplates.add(pathTemplate);
+    return this;
+  }
+
+  /**
+   * @return the HTTP timer sampling interval
+   */
+  public int getHttpTimerSamplingInterval() {
+    return httpTimerSamplingInterval;
+  }
+
+  /**
+   * Set the HTTP timer sampling interval: the response time of HTTP servers and clients is recorded for one out of
+   * {@code httpTimerSamplingInterval} requests, chosen at random. Defaults to {@code 1}, i.e. all requests are timed.
+   * <p>
+   * Request and response counters stay exact, while the response time timers only record the timed requests: their
+   * {@code count} is the sampled count, which must be divided by the sampling rate to estimate the number of requests.
+   * The sampling rate is published by the {@code vertx.http.server.timer.sample.rate} and
+   * {@code vertx.http.client.timer.sample.rate} gauges.
+   *
+   * @param httpTimerSamplingInterval the sampling interval, at least {@code 1}
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if {@code httpTimerSamplingInterval} is lower than {@code 1}
+   */
+  public MicrometerMetricsOptions setHttpTimerSamplingInterval(int httpTimerSamplingInterval) {
+    if (httpTimerSamplingInterval < 1) {
+      throw new IllegalArgumentException("httpTimerSamplingInterval must be at least 1: " + httpTimerSamplingInterval);
+    }
+    this.httpTimerSamplingInterval = httpTimerSamplingInterval;
+    return this;
+  }
+
+  /**
+   * @return the coarse clock resolution
+   */
+  public long getCoarseClockResolution() {
+    return coarseClockResolution;
+  }
+
+  /**
+   * Set the resolution of the coarse clock used by timers. Defaults to {@code 0}, i.e. timers use the system clock.
+   * <p>
+   * When set, timers read the time from a field refreshed periodically on an event loop, instead of calling
+   * {@link System#nanoTime()}. Durations are then off by up to the resolution. The resolution is at least one
+   * millisecond.
+   * <p>
+   * While timers read the clock, the refresh wakes an event loop once per resolution, e.g. a thousand times per second
+   * with a one millisecond resolution, and the other threads read a field written by this event loop. The refresh stops
+   * when the clock is not read for a whole period, and resumes on the next read.
+   *
+   * @param coarseClockResolution the coarse clock resolution
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if {@code coarseClockResolution} is negative
+   */
+  public MicrometerMetricsOptions setCoarseClockResolution(long coarseClockResolution) {
+    if (coarseClockResolution < 0) {
+      throw new IllegalArgumentException("coarseClockResolution must not be negative: " + coarseClockResolution);
+    }
+    this.coarseClockResolution = coarseClockResolution;
+    return this;
+  }
+
+  /**
+   * @return the coarse clock resolution unit
+   */
+  public TimeUnit getCoarseClockResolutionUnit() {
+    return coarseClockResolutionUnit;
+  }
+
+  /**
+   * Set the unit of the coarse clock resolution. Defaults to {@link TimeUnit#MILLISECONDS}.
+   *
+   * @param coarseClockResolutionUnit the coarse clock resolution unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MicrometerMetricsOptions setCoarseClockResolutionUnit(TimeUnit coarseClockResolutionUnit) {
+    this.coarseClockResolutionUnit = coarseClockResolutionUnit;
+    return this;
+  }
+
+  /**
+   * @return true if socket byte counters are confined to event loops
+   */
+  public boolean isConfinedCountersEnabled() {
+    return confinedCountersEnabled;
+  }
+
+  /**
+   * Set whether socket byte counters are confined to event loops. Defaults to {@code false}.
+   * <p>
+   * When enabled, the bytes read and written by a TCP connection are counted in fields owned by the connection event
+   * loop, without atomic operations. The {@code bytes.read} and {@code bytes.written} meters of net and HTTP servers
+   * and clients are then function counters, summing these fields when the registry reads them.
+   *
+   * @param confinedCountersEnabled true to confine socket byte counters to event loops
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MicrometerMetricsOptions setConfinedCountersEnabled(boolean confinedCountersEnabled) {
+    this.confinedCountersEnabled = confinedCountersEnabled;
+    return this;
+  }
+
+  /**
+   * @return the net meter idle timeout
+   */
+  public long getNetMeterIdleTimeout() {
+    return netMeterIdleTimeout;
+  }
+
+  /**
+   * Set the time after which the connection and byte meters of TCP servers and clients are removed from the registry,
+   * once all their connections are closed. Defaults to {@code 0}, i.e. meters are never removed.
+   * <p>
+   * With the {@link Label#REMOTE} label, servers and clients register meters for each remote address. Setting a
+   * timeout keeps the number of meters proportional to the remote addresses seen recently. Removed meters are counted
+   * by the {@code meters.evicted} counters, e.g. {@code vertx.net.server.meters.evicted}.
+   *
+   * @param netMeterIdleTimeout the net meter idle timeout
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if {@code netMeterIdleTimeout} is negative
+   */
+  public MicrometerMetricsOptions setNetMeterIdleTimeout(long netMeterIdleTimeout) {
+    if (netMeterIdleTimeout < 0) {
+      throw new IllegalArgumentException("netMeterIdleTimeout must not be negative: " + netMeterIdleTimeout);
+    }
+    this.netMeterIdleTimeout = netMeterIdleTimeout;
+    return this;
+  }
+
+  /**
+   * @return the net meter idle timeout unit
+   */
+  public TimeUnit getNetMeterIdleTimeoutUnit() {
+    return netMeterIdleTimeoutUnit;
+  }
+
+  /**
+   * Set the unit of the net meter idle timeout. Defaults to {@link TimeUnit#SECONDS}.
+   *
+   * @param netMeterIdleTimeoutUnit the net meter idle timeout unit
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MicrometerMetricsOptions setNetMeterIdleTimeoutUnit(TimeUnit netMeterIdleTimeoutUnit) {
+    this.netMeterIdleTimeoutUnit = netMeterIdleTimeoutUnit;
+    return this;
+  }
+
+  /**
+   * @return true if pools publish the maximum of their queue size
+   */
+  public boolean isPoolQueueMaxEnabled() {
+    return poolQueueMaxEnabled;
+  }
+
+  /**
+   * Set whether pools publish the maximum of their queue size over a decaying window, as the {@code queue.max} gauge.
+   * Defaults to {@code false}.
+   * <p>
+   * When enabled, each element enqueued in a pool sums the queue size and records it in the window, which adds a clock
+   * read and atomic updates to the pool hot path.
+   *
+   * @param poolQueueMaxEnabled true to publish the maximum of the pool queue size
+   * @return a reference to this, so the API can be used fluently
+   */
+  public MicrometerMetricsOptions setPoolQueueMaxEnabled(boolean poolQueueMaxEnabled) {
+    this.poolQueueMaxEnabled = poolQueueMaxEnabled;
     return this;
   }
 }
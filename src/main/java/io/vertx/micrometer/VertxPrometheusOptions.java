@@ -17,10 +17,17 @@
 package io.vertx.micrometer;
 
 import io.vertx.codegen.annotations.DataObject;
+import io.vertx.codegen.annotations.GenIgnore;
 import io.vertx.codegen.json.annotations.JsonGen;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.json.JsonObject;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * Options for Prometheus metrics backend.
  *
@@ -50,11 +57,31 @@ public class VertxPrometheusOptions {
    */
   public static final boolean DEFAULT_PUBLISH_QUANTILES = false;
 
+  /**
+   * Default time-to-live of a rendered scrape, in milliseconds = 0 (no caching).
+   */
+  public static final long DEFAULT_SCRAPE_CACHE_TTL = 0;
+
+  /**
+   * Default value for compressing the scrape responses = false.
+   */
+  public static final boolean DEFAULT_COMPRESSED = false;
+
+  /**
+   * Default number of histogram buckets = 0 (Micrometer's percentiles histogram buckets).
+   */
+  public static final int DEFAULT_HISTOGRAM_BUCKETS = 0;
+
   private boolean enabled;
   private boolean startEmbeddedServer;
   private HttpServerOptions embeddedServerOptions;
   private String embeddedServerEndpoint;
   private boolean publishQuantiles;
+  private long scrapeCacheTtl;
+  private boolean compressed;
+  private Set<MetricsDomain> histogramDomains;
+  private Set<String> histogramMeterNames;
+  private int histogramBuckets;
 
   /**
    * Default constructor
@@ -64,6 +91,11 @@ public class VertxPrometheusOptions {
     startEmbeddedServer = DEFAULT_START_EMBEDDED_SERVER;
     embeddedServerEndpoint = DEFAULT_EMBEDDED_SERVER_ENDPOINT;
     publishQuantiles = DEFAULT_PUBLISH_QUANTILES;
+    scrapeCacheTtl = DEFAULT_SCRAPE_CACHE_TTL;
+    compressed = DEFAULT_COMPRESSED;
+    histogramDomains = EnumSet.noneOf(MetricsDomain.class);
+    histogramMeterNames = new HashSet<>();
+    histogramBuckets = DEFAULT_HISTOGRAM_BUCKETS;
   }
 
   /**
@@ -79,6 +111,11 @@ public class VertxPrometheusOptions {
       embeddedServerOptions = new HttpServerOptions(other.embeddedServerOptions);
     }
     publishQuantiles = other.publishQuantiles;
+    scrapeCacheTtl = other.scrapeCacheTtl;
+    compressed = other.compressed;
+    histogramDomains = other.histogramDomains != null ? EnumSet.copyOf(other.histogramDomains) : EnumSet.noneOf(MetricsDomain.class);
+    histogramMeterNames = other.histogramMeterNames != null ? new HashSet<>(other.histogramMeterNames) : new HashSet<>();
+    histogramBuckets = other.histogramBuckets;
   }
 
   /**
@@ -175,6 +212,9 @@ public class VertxPrometheusOptions {
   /**
    * Set true to publish histogram stats, necessary to compute quantiles.
    * Note that it generates many new timeseries for stats, which is why it is deactivated by default.
+   * <p>
+   * The histograms can be restricted to some domains or meters with {@link #setHistogramDomains(Set)} and
+   * {@link #setHistogramMeterNames(Set)}, and their number of buckets reduced with {@link #setHistogramBuckets(int)}.
    *
    * @param publishQuantiles the publishing quantiles flag
    * @return a reference to this, so the API can be used fluently
@@ -183,4 +223,144 @@ public class VertxPrometheusOptions {
     this.publishQuantiles = publishQuantiles;
     return this;
   }
+
+  /**
+   * @return the time-to-live of a rendered scrape, in milliseconds
+   */
+  public long getScrapeCacheTtl() {
+    return scrapeCacheTtl;
+  }
+
+  /**
+   * Set the time-to-live of a rendered scrape, in milliseconds. Defaults to {@code 0} (no caching).
+   * <p>
+   * When positive, scrapes received within this delay share the same rendered body, so that concurrent scrapes
+   * (e.g. from a pair of Prometheus replicas) do not render the registry several times. The rendered body is then held
+   * in memory, whereas it is streamed to each scrape response when no time-to-live is set.
+   *
+   * @param scrapeCacheTtl the time-to-live, in milliseconds
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxPrometheusOptions setScrapeCacheTtl(long scrapeCacheTtl) {
+    this.scrapeCacheTtl = scrapeCacheTtl;
+    return this;
+  }
+
+  /**
+   * Get the GZIP compression flag for scrape responses
+   */
+  public boolean isCompressed() {
+    return compressed;
+  }
+
+  /**
+   * Activate or deactivate GZIP compression of scrape responses, for clients sending a matching {@code Accept-Encoding}
+   * header. It is deactivated by default.
+   * <p>
+   * Only the {@code gzip} encoding is supported: clients accepting other encodings only, e.g. {@code deflate}, get
+   * uncompressed responses. The HTTP compression of the embedded server is not enabled.
+   *
+   * @param compressed the compression flag
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxPrometheusOptions setCompressed(boolean compressed) {
+    this.compressed = compressed;
+    return this;
+  }
+
+  /**
+   * @return the domains of the meters publishing histogram stats
+   */
+  public Set<MetricsDomain> getHistogramDomains() {
+    return histogramDomains;
+  }
+
+  /**
+   * Set the domains of the meters publishing histogram stats, when {@link #isPublishQuantiles()} is true.
+   * If neither domains nor meter names are set, all meters publish histogram stats.
+   *
+   * @param histogramDomains the domains
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxPrometheusOptions setHistogramDomains(Set<MetricsDomain> histogramDomains) {
+    this.histogramDomains = histogramDomains;
+    return this;
+  }
+
+  /**
+   * Add domains of meters publishing histogram stats.
+   *
+   * @param domains the domains
+   * @return a reference to this, so the API can be used fluently
+   * @see #setHistogramDomains(Set)
+   */
+  @GenIgnore
+  public VertxPrometheusOptions addHistogramDomains(MetricsDomain... domains) {
+    if (histogramDomains == null) {
+      histogramDomains = EnumSet.noneOf(MetricsDomain.class);
+    }
+    histogramDomains.addAll(Arrays.asList(domains));
+    return this;
+  }
+
+  /**
+   * @return the names of the meters publishing histogram stats
+   */
+  public Set<String> getHistogramMeterNames() {
+    return histogramMeterNames;
+  }
+
+  /**
+   * Set the names of the meters publishing histogram stats (e.g. {@code vertx.http.server.response.time}), when
+   * {@link #isPublishQuantiles()} is true. If neither domains nor meter names are set, all meters publish histogram stats.
+   *
+   * @param histogramMeterNames the meter names
+   * @return a reference to this, so the API can be used fluently
+   */
+  public VertxPrometheusOptions setHistogramMeterNames(Set<String> histogramMeterNames) {
+    this.histogramMeterNames = histogramMeterNames;
+    return this;
+  }
+
+  /**
+   * Add names of meters publishing histogram stats.
+   *
+   * @param names the meter names
+   * @return a reference to this, so the API can be used fluently
+   * @see #setHistogramMeterNames(Set)
+   */
+  @GenIgnore
+  public VertxPrometheusOptions addHistogramMeterNames(String... names) {
+    if (histogramMeterNames == null) {
+      histogramMeterNames = new HashSet<>();
+    }
+    Collections.addAll(histogramMeterNames, names);
+    return this;
+  }
+
+  /**
+   * @return the number of histogram buckets
+   */
+  public int getHistogramBuckets() {
+    return histogramBuckets;
+  }
+
+  /**
+   * Set the number of buckets of the published histograms. Defaults to {@code 0}, which means that Micrometer's
+   * percentiles histogram is used (about 70 buckets for timers with the default expected values).
+   * <p>
+   * When positive, each histogram gets this number of exponentially spaced buckets between the minimum and maximum
+   * expected values of the meter (1ms and 30s for timers, unless configured otherwise).
+   *
+   * @param histogramBuckets the number of buckets
+   * @return a reference to this, so the API can be used fluently
+   * @throws IllegalArgumentException if {@code histogramBuckets} is negative
+   */
+  public VertxPrometheusOptions setHistogramBuckets(int histogramBuckets) {
+    if (histogramBuckets < 0) {
+      throw new IllegalArgumentException("histogramBuckets must not be negative: " + histogramBuckets);
+    }
+    this.histogramBuckets = histogramBuckets;
+    return this;
+  }
 }
@@ -16,17 +16,15 @@
  */
 package io.vertx.micrometer.backends;
 
-import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
-import io.micrometer.core.instrument.config.MeterFilter;
 import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
 import io.vertx.micrometer.*;
+import io.vertx.micrometer.impl.DistributionRulesFilter;
+import io.vertx.micrometer.impl.MatchersFilter;
 
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
-import java.util.regex.Pattern;
 
 /**
  * {@link BackendRegistries} is responsible for managing registries related to particular micrometer backends (influxdb, prometheus...)
@@ -53,7 +51,7 @@ public final class BackendRegistries {
       if (meterRegistry != null) {
         if (options.getPrometheusOptions() != null && meterRegistry instanceof PrometheusMeterRegistry) {
           // If a Prometheus registry is provided, extra initialization steps may have to be performed
-          reg = new PrometheusBackendRegistry(options.getPrometheusOptions(), (PrometheusMeterRegistry) meterRegistry);
+          reg = new PrometheusBackendRegistry(options.getPrometheusOptions(), (PrometheusMeterRegistry) meterRegistry, options.getMetricsNaming());
         } else {
           // Other backend registries have no special extra steps
           reg = () -> meterRegistry;
@@ -61,7 +59,7 @@ public final class BackendRegistries {
       } else if (options.getInfluxDbOptions() != null && options.getInfluxDbOptions().isEnabled()) {
         reg = new InfluxDbBackendRegistry(options.getInfluxDbOptions());
       } else if (options.getPrometheusOptions() != null && options.getPrometheusOptions().isEnabled()) {
-        reg = new PrometheusBackendRegistry(options.getPrometheusOptions());
+        reg = new PrometheusBackendRegistry(options.getPrometheusOptions(), options.getMetricsNaming());
       } else if (options.getJmxMetricsOptions() != null && options.getJmxMetricsOptions().isEnabled()) {
         reg = new JmxBackendRegistry(options.getJmxMetricsOptions());
       } else {
@@ -69,6 +67,9 @@ public final class BackendRegistries {
         reg = NoopBackendRegistry.INSTANCE;
       }
       registerMatchers(reg.getMeterRegistry(), options.getLabelMatches());
+      if (!options.getDistributionRules().isEmpty()) {
+        reg.getMeterRegistry().config().meterFilter(new DistributionRulesFilter(options.getDistributionRules()));
+      }
       return reg;
     });
   }
@@ -96,6 +97,16 @@ public final class BackendRegistries {
     return null;
   }
 
+  /**
+   * Get the backend registry of the given name.
+   * May return {@code null} if it hasn't been registered yet or if it has been stopped.
+   * @param registryName the name associated with this registry in Micrometer options
+   * @return the backend registry or {@code null}
+   */
+  public static BackendRegistry getBackendNow(String registryName) {
+    return REGISTRIES.get(registryName);
+  }
+
   /**
    * Stop (unregister) the backend registry of the given name.
    * Any resource started by this backend registry will be released (like running HTTP server)
@@ -109,75 +120,8 @@ public final class BackendRegistries {
   }
 
   public static void registerMatchers(MeterRegistry registry, List<Match> matches) {
-    matches.forEach(m -> {
-      switch (m.getType()) {
-        case EQUALS:
-          if (m.getAlias() == null) {
-            // Exact match => accept
-            registry.config().meterFilter(MeterFilter.deny(id -> {
-              if (m.getDomain() != null && !id.getName().startsWith(m.getDomain().getPrefix())) {
-                // If domain has been specified and we're not in that domain, ignore rule
-                return false;
-              }
-              String tagValue = id.getTag(m.getLabel());
-              return !m.getValue().equals(tagValue);
-            }));
-          } else {
-            // Exact match => alias
-            registry.config().meterFilter(replaceTagValues(
-              m.getDomain(),
-              m.getLabel(),
-              val -> {
-                if (m.getValue().equals(val)) {
-                  return m.getAlias();
-                }
-                return val;
-              }
-            ));
-          }
-          break;
-        case REGEX:
-          Pattern pattern = Pattern.compile(m.getValue());
-          if (m.getAlias() == null) {
-            // Regex match => accept
-            registry.config().meterFilter(MeterFilter.accept(id -> {
-              if (m.getDomain() != null && !id.getName().startsWith(m.getDomain().getPrefix())) {
-                // If domain has been specified and we're not in that domain, ignore rule
-                return true;
-              }
-              String tagValue = id.getTag(m.getLabel());
-              if (tagValue == null) {
-                return false;
-              }
-              return pattern.matcher(tagValue).matches();
-            }));
-          } else {
-            // Regex match => alias
-            registry.config().meterFilter(replaceTagValues(
-              m.getDomain(),
-              m.getLabel(),
-              val -> {
-                if (pattern.matcher(val).matches()) {
-                  return m.getAlias();
-                }
-                return val;
-              }
-            ));
-          }
-          break;
-      }
-    });
-  }
-
-  private static MeterFilter replaceTagValues(MetricsDomain domain, String tagKey, Function<String, String> replacement) {
-    return new MeterFilter() {
-      @Override
-      public Meter.Id map(Meter.Id id) {
-        if (domain != null && !id.getName().startsWith(domain.getPrefix())) {
-          return id;
-        }
-        return MeterFilter.replaceTagValues(tagKey, replacement).map(id);
-      }
-    };
+    if (!matches.isEmpty()) {
+      registry.config().meterFilter(new MatchersFilter(matches));
+    }
   }
 }
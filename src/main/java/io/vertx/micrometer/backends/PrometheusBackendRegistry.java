@@ -26,8 +26,15 @@ import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.internal.logging.Logger;
 import io.vertx.core.internal.logging.LoggerFactory;
-import io.vertx.micrometer.PrometheusRequestHandler;
+import io.vertx.micrometer.MetricsDomain;
+import io.vertx.micrometer.MetricsNaming;
 import io.vertx.micrometer.VertxPrometheusOptions;
+import io.vertx.micrometer.impl.PrometheusRequestHandlerImpl;
+import io.vertx.micrometer.impl.PrometheusScraper;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * @author Joel Takvorian
@@ -35,29 +42,81 @@ import io.vertx.micrometer.VertxPrometheusOptions;
 public final class PrometheusBackendRegistry implements BackendRegistry {
   private static final Logger LOGGER = LoggerFactory.getLogger(PrometheusBackendRegistry.class);
 
+  // Timer values are expressed in nanoseconds
+  private static final double DEFAULT_TIMER_MIN = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final double DEFAULT_TIMER_MAX = TimeUnit.SECONDS.toNanos(30);
+  private static final double DEFAULT_SUMMARY_MAX = 1024 * 1024 * 1024;
+
   private final PrometheusMeterRegistry registry;
   private final VertxPrometheusOptions options;
+  private final PrometheusScraper scraper;
   private Vertx vertx;
 
   public PrometheusBackendRegistry(VertxPrometheusOptions options) {
-    this(options, new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+    this(options, MetricsNaming.v4Names());
+  }
+
+  public PrometheusBackendRegistry(VertxPrometheusOptions options, MetricsNaming names) {
+    this(options, new PrometheusMeterRegistry(PrometheusConfig.DEFAULT), names);
   }
 
   public PrometheusBackendRegistry(VertxPrometheusOptions options, PrometheusMeterRegistry registry) {
+    this(options, registry, MetricsNaming.v4Names());
+  }
+
+  public PrometheusBackendRegistry(VertxPrometheusOptions options, PrometheusMeterRegistry registry, MetricsNaming names) {
     this.options = options;
     this.registry = registry;
+    this.scraper = new PrometheusScraper(registry, names, options.getScrapeCacheTtl(), TimeUnit.MILLISECONDS, options.isCompressed());
     if (options.isPublishQuantiles()) {
-      registry.config().meterFilter(
-        new MeterFilter() {
-          @Override
-          public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
-            return DistributionStatisticConfig.builder()
-              .percentilesHistogram(true)
-              .build()
-              .merge(config);
+      registry.config().meterFilter(histogramFilter(options));
+    }
+  }
+
+  private static MeterFilter histogramFilter(VertxPrometheusOptions options) {
+    Set<MetricsDomain> domains = options.getHistogramDomains() != null ? options.getHistogramDomains() : Collections.emptySet();
+    Set<String> names = options.getHistogramMeterNames() != null ? options.getHistogramMeterNames() : Collections.emptySet();
+    int buckets = options.getHistogramBuckets();
+    return new MeterFilter() {
+      @Override
+      public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        if (!domains.isEmpty() || !names.isEmpty()) {
+          if (!names.contains(id.getName()) && domains.stream().noneMatch(domain -> id.getName().startsWith(domain.getPrefix()))) {
+            return config;
           }
-        });
+        }
+        if (buckets > 0) {
+          return DistributionStatisticConfig.builder()
+            .serviceLevelObjectives(exponentialBuckets(id, config, buckets))
+            .build()
+            .merge(config);
+        }
+        return DistributionStatisticConfig.builder()
+          .percentilesHistogram(true)
+          .build()
+          .merge(config);
+      }
+    };
+  }
+
+  private static double[] exponentialBuckets(Meter.Id id, DistributionStatisticConfig config, int count) {
+    boolean timer = id.getType() == Meter.Type.TIMER || id.getType() == Meter.Type.LONG_TASK_TIMER;
+    Double min = config.getMinimumExpectedValueAsDouble();
+    Double max = config.getMaximumExpectedValueAsDouble();
+    double lower = min != null && min > 0 ? min : timer ? DEFAULT_TIMER_MIN : 1;
+    double upper = max != null && max < Long.MAX_VALUE && max > lower ? max : timer ? DEFAULT_TIMER_MAX : DEFAULT_SUMMARY_MAX;
+    double[] buckets = new double[count];
+    if (count == 1) {
+      buckets[0] = upper;
+      return buckets;
     }
+    double factor = Math.pow(upper / lower, 1.0 / (count - 1));
+    buckets[0] = lower;
+    for (int i = 1; i < count - 1; i++) {
+      buckets[i] = buckets[i - 1] * factor;
+    }
+    buckets[count - 1] = upper;
+    return buckets;
   }
 
   @Override
@@ -65,6 +124,13 @@ public final class PrometheusBackendRegistry implements BackendRegistry {
     return registry;
   }
 
+  /**
+   * @return the scraper rendering this registry, shared by all handlers serving it
+   */
+  public PrometheusScraper scraper() {
+    return scraper;
+  }
+
   @Override
   public void init() {
     if (options.isStartEmbeddedServer()) {
@@ -75,7 +141,7 @@ public final class PrometheusBackendRegistry implements BackendRegistry {
         serverOptions = new HttpServerOptions();
       }
       vertx.createHttpServer(serverOptions)
-        .requestHandler(PrometheusRequestHandler.create(registry, options.getEmbeddedServerEndpoint()))
+        .requestHandler(new PrometheusRequestHandlerImpl(scraper, options.getEmbeddedServerEndpoint()))
         .exceptionHandler(t -> LOGGER.error("Error in Prometheus registry embedded server", t))
         .listen(serverOptions.getPort(), serverOptions.getHost());
     }
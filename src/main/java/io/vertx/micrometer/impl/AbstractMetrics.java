@@ -16,15 +16,27 @@
 
 package io.vertx.micrometer.impl;
 
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.TimeWindowMax;
 import io.vertx.micrometer.Label;
 import io.vertx.micrometer.MetricsDomain;
 import io.vertx.micrometer.MetricsNaming;
+import io.vertx.micrometer.impl.meters.ConfinedCounter;
+import io.vertx.micrometer.impl.meters.ConfinedCounters;
 import io.vertx.micrometer.impl.meters.LongGaugeBuilder;
+import io.vertx.micrometer.impl.tags.CardinalityGuard;
+import io.vertx.micrometer.impl.tags.CardinalityGuards;
+import io.vertx.micrometer.impl.tags.PathNormalizer;
 import io.vertx.micrometer.impl.meters.LongGauges;
 
 import java.util.EnumSet;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
 import java.util.function.ToDoubleFunction;
 
 /**
@@ -36,26 +48,53 @@ public abstract class AbstractMetrics implements MicrometerMetrics {
 
   protected final MeterRegistry registry;
   protected final MetricsNaming names;
+  private final MetricsDomain domain;
   private final String category;
   protected final EnumSet<Label> enabledLabels;
   private final LongGauges longGauges;
+  private final boolean meterCacheEnabled;
+  private final CardinalityGuards cardinalityGuards;
+  private final int timerSamplingInterval;
+  private final Clock clock;
+  private final ConfinedCounters confinedCounters;
+  private final long netMeterIdleTimeout;
 
-  AbstractMetrics(MeterRegistry registry, MetricsNaming names, LongGauges longGauges, EnumSet<Label> enabledLabels) {
+  AbstractMetrics(MeterRegistry registry, MetricsNaming names, LongGauges longGauges, EnumSet<Label> enabledLabels,
+                  boolean meterCacheEnabled, CardinalityGuards cardinalityGuards, int timerSamplingInterval, Clock clock,
+                  ConfinedCounters confinedCounters, long netMeterIdleTimeout) {
     this.registry = registry;
+    this.domain = null;
     this.category = null;
     this.enabledLabels = enabledLabels;
     this.names = names;
     this.longGauges = longGauges;
+    this.meterCacheEnabled = meterCacheEnabled;
+    this.cardinalityGuards = cardinalityGuards;
+    this.timerSamplingInterval = timerSamplingInterval;
+    this.clock = clock;
+    this.confinedCounters = confinedCounters;
+    this.netMeterIdleTimeout = netMeterIdleTimeout;
   }
 
   AbstractMetrics(AbstractMetrics parent, MetricsDomain domain) {
-    this(parent, domain == null ? null : domain.toCategory());
+    this(parent, domain, domain == null ? null : domain.toCategory());
   }
 
   AbstractMetrics(AbstractMetrics parent, String category) {
+    this(parent, null, category);
+  }
+
+  private AbstractMetrics(AbstractMetrics parent, MetricsDomain domain, String category) {
     this.registry = parent.registry;
     this.enabledLabels = parent.enabledLabels;
     this.longGauges = parent.longGauges;
+    this.meterCacheEnabled = parent.meterCacheEnabled;
+    this.cardinalityGuards = parent.cardinalityGuards;
+    this.timerSamplingInterval = parent.timerSamplingInterval;
+    this.clock = parent.clock;
+    this.confinedCounters = parent.confinedCounters;
+    this.netMeterIdleTimeout = parent.netMeterIdleTimeout;
+    this.domain = domain;
     this.category = category;
     this.names = parent.names.withBaseName(baseName());
   }
@@ -77,4 +116,93 @@ public abstract class AbstractMetrics implements MicrometerMetrics {
   LongGaugeBuilder longGaugeBuilder(String name, ToDoubleFunction<LongAdder> func) {
     return longGauges.builder(name, func);
   }
+
+  TimeWindowMax maxGauge(String name, String description, Iterable<Tag> tags, LongAdder current) {
+    return longGauges.registerMax(registry, name, description, tags, current);
+  }
+
+  void derivedGauge(String name, String description, Iterable<Tag> tags, LongAdder source,
+                    ToDoubleFunction<LongAdder> func) {
+    longGauges.registerDerived(registry, name, description, tags, source, func);
+  }
+
+  /**
+   * @param names the names of the meters held by the cache
+   * @return a cache cleared whenever a meter named {@code names} is removed from the registry
+   */
+  <K, V> MeterCache<K, V> meterCache(String... names) {
+    return new MeterCache<>(meterCacheEnabled ? MeterCache.DEFAULT_MAX_SIZE : 0, names.length > 0 ? meterRemovals(names) : null);
+  }
+
+  /**
+   * @return a count of the meters named {@code names} removed from the registry, which changes on each removal
+   */
+  IntSupplier meterRemovals(String... names) {
+    return longGauges.store().removals(names);
+  }
+
+  CardinalityGuard cardinalityGuard(Label label) {
+    return cardinalityGuards.get(domain, label);
+  }
+
+  /**
+   * @return whether socket counters are kept in {@link ConfinedCounter confined counters}
+   */
+  boolean confinedCountersEnabled() {
+    return confinedCounters != null;
+  }
+
+  /**
+   * @return the confined counter registered with the given {@code name} and {@code tags}
+   */
+  ConfinedCounter confinedCounter(String name, String description, Iterable<Tag> tags) {
+    return confinedCounters.register(registry, name, description, tags);
+  }
+
+  /**
+   * @return the time in nanoseconds after which the meters of idle connections are removed, or {@code 0}
+   */
+  long netMeterIdleTimeout() {
+    return netMeterIdleTimeout;
+  }
+
+  /**
+   * @return a sample started with the clock of timers
+   */
+  Timer.Sample timerStart() {
+    return Timer.start(clock);
+  }
+
+  /**
+   * Start a sample for one out of {@code timerSamplingInterval} events, chosen at random.
+   *
+   * @return the sample, or {@code null} if the event is not timed
+   */
+  Timer.Sample sampledTimerStart() {
+    if (timerSamplingInterval > 1 && ThreadLocalRandom.current().nextInt(timerSamplingInterval) != 0) {
+      return null;
+    }
+    return Timer.start(clock);
+  }
+
+  /**
+   * Publish the rate of the events timed by {@link #sampledTimerStart()}, if they are sampled.
+   */
+  void registerTimerSampleRate() {
+    if (timerSamplingInterval > 1) {
+      double rate = 1.0 / timerSamplingInterval;
+      Gauge.builder(names.getHttpTimerSampleRate(), () -> rate)
+        .description("Rate of the events recorded by timers")
+        .strongReference(true)
+        .register(registry);
+    }
+  }
+
+  PathTags pathTags(PathNormalizer normalizer) {
+    return new PathTags(normalizer, cardinalityGuard(Label.HTTP_PATH), meterCacheEnabled);
+  }
+
+  RouteTags routeTags() {
+    return new RouteTags(cardinalityGuard(Label.HTTP_ROUTE), meterCacheEnabled);
+  }
 }
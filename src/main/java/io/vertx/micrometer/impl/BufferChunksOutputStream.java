@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl;
+
+import io.vertx.core.buffer.Buffer;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An {@link OutputStream} collecting bytes into {@link Buffer} chunks of a bounded size.
+ */
+public final class BufferChunksOutputStream extends OutputStream {
+
+  /**
+   * Default size of a chunk = 32 KiB, well below the humongous allocation threshold of G1.
+   */
+  public static final int DEFAULT_CHUNK_SIZE = 32 * 1024;
+
+  private final int chunkSize;
+  private final List<Buffer> chunks = new ArrayList<>();
+  private Buffer current;
+
+  public BufferChunksOutputStream() {
+    this(DEFAULT_CHUNK_SIZE);
+  }
+
+  public BufferChunksOutputStream(int chunkSize) {
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public void write(int b) {
+    current().appendByte((byte) b);
+    flushChunkIfFull();
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) {
+    while (len > 0) {
+      Buffer chunk = current();
+      int n = Math.min(len, chunkSize - chunk.length());
+      chunk.appendBytes(b, off, n);
+      off += n;
+      len -= n;
+      flushChunkIfFull();
+    }
+  }
+
+  /**
+   * @return the chunks written so far, the last one possibly not full
+   */
+  public List<Buffer> chunks() {
+    if (current != null && current.length() > 0) {
+      chunks.add(current);
+      current = null;
+    }
+    return chunks;
+  }
+
+  private Buffer current() {
+    if (current == null) {
+      current = Buffer.buffer(chunkSize);
+    }
+    return current;
+  }
+
+  private void flushChunkIfFull() {
+    if (current.length() == chunkSize) {
+      chunks.add(current);
+      current = null;
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl;
+
+import io.micrometer.core.instrument.Clock;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.internal.VertxInternal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link Clock} whose monotonic time is read from a field, refreshed by a Vert.x timer while the clock is in use.
+ * <p>
+ * Reading the time is a volatile read instead of a {@link System#nanoTime()} call, at the cost of precision: times are
+ * off by up to the resolution, and by more when the event loop running the timer is busy. Vert.x timers have a
+ * millisecond granularity, so the resolution is at least one millisecond.
+ * <p>
+ * The timer wakes an event loop once per resolution, but only as long as the time is read: when a whole period passes
+ * without any read, the timer is not rescheduled. The next read then refreshes the time itself and schedules the timer
+ * again, so an idle clock costs no wakeups and the first read after an idle period is exact.
+ * <p>
+ * The timer is always scheduled from an event loop context owned by the clock, rather than from the context of the
+ * first reader: the timers of a verticle are cancelled when it is undeployed, which would stop the refreshes.
+ */
+public final class CoarseClock implements Clock {
+
+  private final long refreshPeriod;
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+  private volatile long monotonicTime;
+  // Whether the time was read since the last refresh, written at most once per period by readers
+  private volatile boolean read;
+  private volatile Context context;
+  private volatile long timerId;
+
+  /**
+   * @param resolution the time between two refreshes
+   * @param unit the resolution unit
+   */
+  public CoarseClock(long resolution, TimeUnit unit) {
+    this.refreshPeriod = Math.max(1, unit.toMillis(resolution));
+    this.monotonicTime = System.nanoTime();
+  }
+
+  /**
+   * Start refreshing the time on an event loop of {@code vertx}, when the time is read.
+   */
+  public synchronized void start(Vertx vertx) {
+    if (context == null) {
+      scheduled.set(false);
+      read = false;
+      context = ((VertxInternal) vertx).createEventLoopContext();
+    }
+  }
+
+  /**
+   * Stop refreshing the time.
+   */
+  public synchronized void stop() {
+    Context ctx = context;
+    if (ctx != null) {
+      context = null;
+      ctx.owner().cancelTimer(timerId);
+    }
+  }
+
+  @Override
+  public long wallTime() {
+    return System.currentTimeMillis();
+  }
+
+  @Override
+  public long monotonicTime() {
+    if (!read) {
+      read = true;
+      if (!scheduled.get()) {
+        wakeUp();
+      }
+    }
+    return monotonicTime;
+  }
+
+  private void wakeUp() {
+    Context ctx = context;
+    if (ctx != null && scheduled.compareAndSet(false, true)) {
+      monotonicTime = System.nanoTime();
+      // Timers set from the clock context are bound to it, whatever the thread reading the clock
+      ctx.runOnContext(v -> schedule(ctx));
+    }
+  }
+
+  private void schedule(Context ctx) {
+    if (context == ctx) {
+      timerId = ctx.owner().setTimer(refreshPeriod, this::refresh);
+    }
+  }
+
+  private void refresh(long id) {
+    Context ctx = context;
+    if (ctx == null) {
+      return;
+    }
+    if (read) {
+      read = false;
+      monotonicTime = System.nanoTime();
+      schedule(ctx);
+    } else {
+      scheduled.set(false);
+      // The time may have been read before the timer was marked as not scheduled
+      if (read) {
+        wakeUp();
+      }
+    }
+  }
+}
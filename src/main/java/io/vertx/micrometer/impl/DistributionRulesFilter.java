@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.vertx.micrometer.DistributionRule;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A single {@link MeterFilter} applying a list of {@link DistributionRule}.
+ * <p>
+ * Rules are compiled once: name patterns are turned into prefixes and the distribution configs of timers (expressed in
+ * nanoseconds by Micrometer) and summaries are computed upfront.
+ */
+public final class DistributionRulesFilter implements MeterFilter {
+
+  private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final CompiledRule[] rules;
+
+  public DistributionRulesFilter(List<DistributionRule> rules) {
+    this.rules = rules.stream().map(CompiledRule::new).toArray(CompiledRule[]::new);
+  }
+
+  @Override
+  public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+    boolean timer = id.getType() == Meter.Type.TIMER || id.getType() == Meter.Type.LONG_TASK_TIMER;
+    String name = id.getName();
+    // Iterate backwards so that the first matching rules take precedence
+    for (int i = rules.length - 1; i >= 0; i--) {
+      CompiledRule rule = rules[i];
+      if (rule.matches(name)) {
+        config = (timer ? rule.timerConfig : rule.summaryConfig).merge(config);
+      }
+    }
+    return config;
+  }
+
+  private static final class CompiledRule {
+
+    final String domainPrefix;
+    final String name;
+    final boolean prefix;
+    final DistributionStatisticConfig timerConfig;
+    final DistributionStatisticConfig summaryConfig;
+
+    CompiledRule(DistributionRule rule) {
+      domainPrefix = rule.getDomain() != null ? rule.getDomain().getPrefix() : null;
+      String pattern = rule.getName();
+      if (pattern != null && pattern.endsWith("*")) {
+        name = pattern.substring(0, pattern.length() - 1);
+        prefix = true;
+      } else {
+        name = pattern;
+        prefix = false;
+      }
+      timerConfig = config(rule, NANOS_PER_MILLI);
+      summaryConfig = config(rule, 1);
+    }
+
+    boolean matches(String meterName) {
+      if (domainPrefix != null && !meterName.startsWith(domainPrefix)) {
+        return false;
+      }
+      if (name == null) {
+        return true;
+      }
+      return prefix ? meterName.startsWith(name) : meterName.equals(name);
+    }
+
+    private static DistributionStatisticConfig config(DistributionRule rule, double scale) {
+      DistributionStatisticConfig.Builder builder = DistributionStatisticConfig.builder()
+        .percentilePrecision(rule.getPercentilePrecision())
+        .bufferLength(rule.getBufferLength())
+        .percentilesHistogram(rule.getPercentilesHistogram());
+      if (rule.getServiceLevelObjectives() != null) {
+        builder.serviceLevelObjectives(rule.getServiceLevelObjectives().stream()
+          .mapToDouble(slo -> slo * scale)
+          .toArray());
+      }
+      if (rule.getMinimumExpectedValue() != null) {
+        builder.minimumExpectedValue(rule.getMinimumExpectedValue() * scale);
+      }
+      if (rule.getMaximumExpectedValue() != null) {
+        builder.maximumExpectedValue(rule.getMaximumExpectedValue() * scale);
+      }
+      if (rule.getPercentiles() != null) {
+        builder.percentiles(rule.getPercentiles().stream().mapToDouble(Double::doubleValue).toArray());
+      }
+      if (rule.getExpiry() != null) {
+        builder.expiry(Duration.ofMillis(rule.getExpiry()));
+      }
+      return builder.build();
+    }
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl;
+
+/**
+ * Prometheus exposition formats, negotiated from the {@code Accept} header of a scrape.
+ */
+public enum ExpositionFormat {
+
+  TEXT("text/plain; version=0.0.4; charset=utf-8"),
+  OPEN_METRICS("application/openmetrics-text; version=1.0.0; charset=utf-8"),
+  PROTOBUF("application/vnd.google.protobuf; proto=io.prometheus.client.MetricFamily; encoding=delimited");
+
+  private static final boolean PROTOBUF_AVAILABLE = isProtobufAvailable();
+
+  private final String contentType;
+
+  ExpositionFormat(String contentType) {
+    this.contentType = contentType;
+  }
+
+  /**
+   * @return the content type of the format, also understood by {@code PrometheusMeterRegistry#scrape(OutputStream, String)}
+   */
+  public String contentType() {
+    return contentType;
+  }
+
+  /**
+   * Select the format preferred by a client sending this {@code Accept} header.
+   * The protobuf format is only selected if the Prometheus protobuf writer is on the classpath.
+   *
+   * @return the selected format, {@link #TEXT} if the client expresses no preference for another one
+   */
+  public static ExpositionFormat negotiate(String accept) {
+    if (accept == null) {
+      return TEXT;
+    }
+    ExpositionFormat best = TEXT;
+    double bestQuality = -1;
+    for (String mediaRange : accept.split(",")) {
+      String[] parts = mediaRange.split(";");
+      ExpositionFormat format = formatOf(parts);
+      if (format == null) {
+        continue;
+      }
+      double quality = quality(parts);
+      if (quality > bestQuality && quality > 0) {
+        best = format;
+        bestQuality = quality;
+      }
+    }
+    return best;
+  }
+
+  private static ExpositionFormat formatOf(String[] parts) {
+    String type = parts[0].trim().toLowerCase();
+    switch (type) {
+      case "application/vnd.google.protobuf":
+        if (PROTOBUF_AVAILABLE
+          && hasParameter(parts, "proto", "io.prometheus.client.MetricFamily")
+          && hasParameter(parts, "encoding", "delimited")) {
+          return PROTOBUF;
+        }
+        return null;
+      case "application/openmetrics-text":
+        return OPEN_METRICS;
+      case "text/plain":
+      case "text/*":
+      case "*/*":
+        return TEXT;
+      default:
+        return null;
+    }
+  }
+
+  private static boolean hasParameter(String[] parts, String name, String value) {
+    for (int i = 1; i < parts.length; i++) {
+      String param = parts[i].trim();
+      int idx = param.indexOf('=');
+      if (idx > 0 && param.substring(0, idx).trim().equalsIgnoreCase(name) && param.substring(idx + 1).trim().equals(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static double quality(String[] parts) {
+    for (int i = 1; i < parts.length; i++) {
+      String param = parts[i].trim();
+      if (param.startsWith("q=")) {
+        try {
+          return Double.parseDouble(param.substring(2).trim());
+        } catch (NumberFormatException e) {
+          return 0;
+        }
+      }
+    }
+    return 1;
+  }
+
+  private static boolean isProtobufAvailable() {
+    try {
+      Class.forName("io.prometheus.metrics.expositionformats.internal.PrometheusProtobufWriterImpl", false, ExpositionFormat.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+}
@@ -6,36 +6,25 @@ package io.vertx.micrometer.impl;
 class HttpUtils {
 
   /**
-   * Extract the path out of the uri.
+   * @return the index of the path in the uri, or {@code -1} if the uri contains no {@code /} after the authority
    */
-  static String parsePath(String uri) {
-    if (uri.isEmpty()) {
-      return "";
+  static int pathStart(String uri) {
+    if (uri.isEmpty() || uri.charAt(0) == '/') {
+      return 0;
     }
-    int i;
-    if (uri.charAt(0) == '/') {
-      i = 0;
-    } else {
-      i = uri.indexOf("://");
-      if (i == -1) {
-        i = 0;
-      } else {
-        i = uri.indexOf('/', i + 3);
-        if (i == -1) {
-          // contains no /
-          return "/";
-        }
-      }
+    int i = uri.indexOf("://");
+    if (i == -1) {
+      return 0;
     }
+    return uri.indexOf('/', i + 3);
+  }
 
-    int queryStart = uri.indexOf('?', i);
-    if (queryStart == -1) {
-      queryStart = uri.length();
-      if (i == 0) {
-        return uri;
-      }
-    }
-    return uri.substring(i, queryStart);
+  /**
+   * @return the index of the end of the path in the uri, i.e. of the query string if any
+   */
+  static int pathEnd(String uri, int pathStart) {
+    int queryStart = uri.indexOf('?', pathStart);
+    return queryStart == -1 ? uri.length() : queryStart;
   }
 
   private HttpUtils() {
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A bounded cache evicting the least recently used entries.
+ * <p>
+ * Entries are spread over segments by hash, each an access-ordered map guarded by its own lock, so that concurrent
+ * lookups of different keys rarely contend. Each segment evicts its own least recently used entry when it is full, so
+ * that at most {@code maxSize} entries are retained overall.
+ * Values are computed outside the lock: concurrent misses may compute them more than once.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class LruCache<K, V> {
+
+  private static final int MAX_SEGMENTS = 16;
+
+  private final Segment<K, V>[] segments;
+
+  /**
+   * Create a cache retaining at most {@code maxSize} entries, which must be positive.
+   */
+  @SuppressWarnings("unchecked")
+  public LruCache(int maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+    }
+    int count = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maxSize));
+    segments = new Segment[count];
+    for (int i = 0; i < count; i++) {
+      segments[i] = new Segment<>(maxSize / count);
+    }
+  }
+
+  public V get(K key, Function<? super K, ? extends V> factory) {
+    V value = get(key);
+    if (value == null) {
+      value = factory.apply(key);
+      V previous = putIfAbsent(key, value);
+      if (previous != null) {
+        value = previous;
+      }
+    }
+    return value;
+  }
+
+  /**
+   * @return the value of {@code key}, or {@code null} if absent
+   */
+  public V get(K key) {
+    Segment<K, V> segment = segment(key);
+    synchronized (segment) {
+      return segment.get(key);
+    }
+  }
+
+  /**
+   * @return the value already associated with {@code key}, or {@code null} if {@code value} was stored
+   */
+  public V putIfAbsent(K key, V value) {
+    Segment<K, V> segment = segment(key);
+    synchronized (segment) {
+      return segment.putIfAbsent(key, value);
+    }
+  }
+
+  public void clear() {
+    for (Segment<K, V> segment : segments) {
+      synchronized (segment) {
+        segment.clear();
+      }
+    }
+  }
+
+  public int size() {
+    int size = 0;
+    for (Segment<K, V> segment : segments) {
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+    return size;
+  }
+
+  private Segment<K, V> segment(K key) {
+    int h = key.hashCode();
+    return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
+  }
+
+  private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+
+    final int capacity;
+
+    Segment(int capacity) {
+      super(16, 0.75f, true);
+      this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+      return size() > capacity;
+    }
+  }
+}
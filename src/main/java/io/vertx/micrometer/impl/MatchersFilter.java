@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.config.MeterFilterReply;
+import io.vertx.micrometer.Match;
+import io.vertx.micrometer.MatchType;
+import io.vertx.micrometer.MetricsDomain;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A single {@link MeterFilter} applying a list of {@link Match} rules.
+ * <p>
+ * It behaves as if one filter per rule had been installed, in the same order:
+ * <ul>
+ *   <li>rules with an alias replace the matching label values, each rule seeing the output of the previous ones,</li>
+ *   <li>{@link MatchType#EQUALS} rules without alias deny meters of their domain whose label value differs,</li>
+ *   <li>{@link MatchType#REGEX} rules without alias accept meters of their domain whose label value matches, and
+ *   accept meters outside of their domain.</li>
+ * </ul>
+ * For each domain (and for meters outside of any domain), the applicable rules are precomputed and indexed by label
+ * key, so that the cost of a new meter registration does not depend on the number of rules. Regex match results are
+ * memoized per label value.
+ */
+public final class MatchersFilter implements MeterFilter {
+
+  private static final MetricsDomain[] DOMAINS = MetricsDomain.values();
+  // Index of the tables used for meters outside of any domain
+  private static final int NO_DOMAIN = DOMAINS.length;
+
+  private final Map<String, AliasRule[]>[] aliasRules;
+  private final AcceptRule[][] acceptRules;
+
+  @SuppressWarnings("unchecked")
+  public MatchersFilter(List<Match> matches) {
+    List<CompiledMatch> compiled = new ArrayList<>(matches.size());
+    for (Match match : matches) {
+      compiled.add(new CompiledMatch(match));
+    }
+    aliasRules = new Map[DOMAINS.length + 1];
+    acceptRules = new AcceptRule[DOMAINS.length + 1][];
+    for (int i = 0; i <= DOMAINS.length; i++) {
+      MetricsDomain domain = i < DOMAINS.length ? DOMAINS[i] : null;
+      Map<String, List<AliasRule>> aliases = new LinkedHashMap<>();
+      List<AcceptRule> accepts = new ArrayList<>();
+      boolean acceptsAll = false;
+      for (CompiledMatch match : compiled) {
+        boolean inDomain = match.domain == null || match.domain == domain;
+        if (match.alias != null) {
+          if (inDomain) {
+            aliases.computeIfAbsent(match.label, k -> new ArrayList<>()).add(match);
+          }
+        } else if (!acceptsAll) {
+          if (match.type == MatchType.EQUALS) {
+            if (inDomain) {
+              accepts.add(match::denyUnlessEquals);
+            }
+          } else if (inDomain) {
+            accepts.add(match::acceptIfMatches);
+          } else {
+            // Regex rules accept meters outside of their domain: the following rules can never be reached
+            accepts.add(id -> MeterFilterReply.ACCEPT);
+            acceptsAll = true;
+          }
+        }
+      }
+      Map<String, AliasRule[]> byLabel = new HashMap<>();
+      aliases.forEach((label, rules) -> byLabel.put(label, rules.toArray(new AliasRule[0])));
+      aliasRules[i] = byLabel;
+      acceptRules[i] = accepts.toArray(new AcceptRule[0]);
+    }
+  }
+
+  @Override
+  public Meter.Id map(Meter.Id id) {
+    Map<String, AliasRule[]> byLabel = aliasRules[domainIndex(id)];
+    if (byLabel.isEmpty()) {
+      return id;
+    }
+    List<Tag> tags = id.getTags();
+    List<Tag> replaced = null;
+    for (int i = 0; i < tags.size(); i++) {
+      Tag tag = tags.get(i);
+      AliasRule[] rules = byLabel.get(tag.getKey());
+      if (rules == null) {
+        continue;
+      }
+      String value = tag.getValue();
+      for (AliasRule rule : rules) {
+        value = rule.replace(value);
+      }
+      if (!value.equals(tag.getValue())) {
+        if (replaced == null) {
+          replaced = new ArrayList<>(tags);
+        }
+        replaced.set(i, Tag.of(tag.getKey(), value));
+      }
+    }
+    return replaced == null ? id : id.replaceTags(replaced);
+  }
+
+  @Override
+  public MeterFilterReply accept(Meter.Id id) {
+    for (AcceptRule rule : acceptRules[domainIndex(id)]) {
+      MeterFilterReply reply = rule.accept(id);
+      if (reply != MeterFilterReply.NEUTRAL) {
+        return reply;
+      }
+    }
+    return MeterFilterReply.NEUTRAL;
+  }
+
+  private static int domainIndex(Meter.Id id) {
+    String name = id.getName();
+    for (int i = 0; i < DOMAINS.length; i++) {
+      if (name.startsWith(DOMAINS[i].getPrefix())) {
+        return i;
+      }
+    }
+    return NO_DOMAIN;
+  }
+
+  @FunctionalInterface
+  private interface AliasRule {
+    String replace(String value);
+  }
+
+  @FunctionalInterface
+  private interface AcceptRule {
+    MeterFilterReply accept(Meter.Id id);
+  }
+
+  private static final class CompiledMatch implements AliasRule {
+
+    final MetricsDomain domain;
+    final String label;
+    final String value;
+    final MatchType type;
+    final String alias;
+    final Pattern pattern;
+    final MeterCache<String, Boolean> matches;
+
+    CompiledMatch(Match match) {
+      domain = match.getDomain();
+      label = match.getLabel();
+      value = match.getValue();
+      type = match.getType();
+      alias = match.getAlias();
+      if (type == MatchType.REGEX) {
+        pattern = Pattern.compile(value);
+        matches = new MeterCache<>(MeterCache.DEFAULT_MAX_SIZE);
+      } else {
+        pattern = null;
+        matches = null;
+      }
+    }
+
+    boolean matches(String tagValue) {
+      if (pattern == null) {
+        return value.equals(tagValue);
+      }
+      return matches.get(tagValue, v -> pattern.matcher(v).matches());
+    }
+
+    @Override
+    public String replace(String tagValue) {
+      return matches(tagValue) ? alias : tagValue;
+    }
+
+    MeterFilterReply denyUnlessEquals(Meter.Id id) {
+      return value.equals(id.getTag(label)) ? MeterFilterReply.NEUTRAL : MeterFilterReply.DENY;
+    }
+
+    MeterFilterReply acceptIfMatches(Meter.Id id) {
+      String tagValue = id.getTag(label);
+      return tagValue != null && matches(tagValue) ? MeterFilterReply.ACCEPT : MeterFilterReply.NEUTRAL;
+    }
+  }
+}
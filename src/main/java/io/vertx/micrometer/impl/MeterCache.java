@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl;
+
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * A bounded cache of values resolved on hot paths (meters, tags...).
+ * <p>
+ * Once {@code maxSize} entries are stored, the least recently used entries are evicted, so that unbounded label values
+ * (paths, remote addresses...) cannot make the cache grow without limit, while the values in use are still found.
+ * Entries are kept in a {@link LruCache}: lookups lock one of its segments, without blocking lookups of other segments.
+ * <p>
+ * Values must be idempotent: computing them twice for the same key must yield equivalent results, as concurrent
+ * misses may compute them more than once.
+ * <p>
+ * A cache of meters can be given the count of the removed meters it may hold: the cache is then cleared whenever this
+ * count changes, so that meters removed from the registry are resolved again, instead of recording into meters the
+ * registry no longer publishes.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class MeterCache<K, V> {
+
+  /**
+   * Default maximum number of entries.
+   */
+  public static final int DEFAULT_MAX_SIZE = 1024;
+
+  // null when no entry is retained
+  private final LruCache<K, V> cache;
+  private final IntSupplier removals;
+  private volatile int seenRemovals;
+
+  /**
+   * Create a cache retaining at most {@link #DEFAULT_MAX_SIZE} entries, or none if {@code enabled} is {@code false}.
+   */
+  public MeterCache(boolean enabled) {
+    this(enabled ? DEFAULT_MAX_SIZE : 0);
+  }
+
+  /**
+   * Create a cache retaining at most {@code maxSize} entries.
+   */
+  public MeterCache(int maxSize) {
+    this(maxSize, null);
+  }
+
+  /**
+   * Create a cache retaining at most {@code maxSize} entries, cleared when the count of {@code removals} changes.
+   */
+  public MeterCache(int maxSize, IntSupplier removals) {
+    this.cache = maxSize > 0 ? new LruCache<>(maxSize) : null;
+    this.removals = removals;
+    this.seenRemovals = removals != null ? removals.getAsInt() : 0;
+  }
+
+  public V get(K key, Function<? super K, ? extends V> factory) {
+    return get(key, UnaryOperator.identity(), factory);
+  }
+
+  /**
+   * Like {@link #get(Object, Function)}, but a computed value is retained under {@code compact.apply(key)}, e.g. a copy
+   * of a lookup key which is a view over a larger object.
+   */
+  public V get(K key, UnaryOperator<K> compact, Function<? super K, ? extends V> factory) {
+    int removed = 0;
+    if (removals != null) {
+      removed = removals.getAsInt();
+      if (removed != seenRemovals) {
+        if (cache != null) {
+          cache.clear();
+        }
+        seenRemovals = removed;
+      }
+    }
+    V value = cache != null ? cache.get(key) : null;
+    if (value == null) {
+      value = factory.apply(key);
+      // Do not retain a value that may have been resolved before a removal
+      if (cache != null && (removals == null || removals.getAsInt() == removed)) {
+        V previous = cache.putIfAbsent(compact.apply(key), value);
+        if (previous != null) {
+          value = previous;
+        }
+      }
+    }
+    return value;
+  }
+
+  public int size() {
+    return cache != null ? cache.size() : 0;
+  }
+}
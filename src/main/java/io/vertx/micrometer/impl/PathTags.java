@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl;
+
+import io.micrometer.core.instrument.Tag;
+import io.vertx.micrometer.CardinalityLimit;
+import io.vertx.micrometer.impl.tags.CardinalityGuard;
+import io.vertx.micrometer.impl.tags.PathNormalizer;
+
+import static io.vertx.micrometer.Label.HTTP_PATH;
+
+/**
+ * Resolves the {@link io.vertx.micrometer.Label#HTTP_PATH} tag of request URIs.
+ * <p>
+ * Tags are cached by path. The path is looked up as a view over the URI, so neither the path string nor the tag are
+ * allocated when the path has already been seen, even for absolute URIs or URIs with a query string. Cached paths are
+ * copies, so the cache does not retain URIs (and their query strings).
+ */
+public final class PathTags {
+
+  private static final PathKey ROOT = new PathKey("/", 0, 1);
+
+  private final PathNormalizer normalizer;
+  private final CardinalityGuard guard;
+  private final MeterCache<PathKey, Tag> tags;
+  private final Tag overflow;
+
+  /**
+   * @param normalizer the path normalizer, or {@code null} to use raw paths
+   * @param guard the cardinality guard of the path label
+   * @param cacheEnabled whether tags should be cached
+   */
+  public PathTags(PathNormalizer normalizer, CardinalityGuard guard, boolean cacheEnabled) {
+    this.normalizer = normalizer;
+    this.guard = guard;
+    this.tags = new MeterCache<>(cacheEnabled);
+    this.overflow = Tag.of(HTTP_PATH.toString(), CardinalityLimit.OVERFLOW_VALUE);
+  }
+
+  public Tag get(String uri) {
+    int start = HttpUtils.pathStart(uri);
+    PathKey key = start == -1 ? ROOT : new PathKey(uri, start, HttpUtils.pathEnd(uri, start));
+    Tag tag = tags.get(key, PathKey::compact, this::create);
+    if (tag == overflow) {
+      // Counted here rather than on creation, so that cached folded paths are counted too
+      guard.fold();
+    }
+    return tag;
+  }
+
+  private Tag create(PathKey key) {
+    String path = key.toString();
+    if (normalizer != null) {
+      path = normalizer.normalize(path);
+    }
+    return guard.admit(path) ? Tag.of(HTTP_PATH.toString(), path) : overflow;
+  }
+
+  /**
+   * A view over the path of a URI, comparable with the other views regardless of the URI they are taken from.
+   */
+  private static final class PathKey implements CharSequence {
+
+    final String uri;
+    final int start;
+    final int end;
+    int hash;
+
+    PathKey(String uri, int start, int end) {
+      this.uri = uri;
+      this.start = start;
+      this.end = end;
+    }
+
+    /**
+     * @return a key holding only the path
+     */
+    PathKey compact() {
+      if (start == 0 && end == uri.length()) {
+        return this;
+      }
+      PathKey key = new PathKey(toString(), 0, length());
+      key.hash = hash;
+      return key;
+    }
+
+    @Override
+    public int length() {
+      return end - start;
+    }
+
+    @Override
+    public char charAt(int index) {
+      return uri.charAt(start + index);
+    }
+
+    @Override
+    public CharSequence subSequence(int from, int to) {
+      return new PathKey(uri, start + from, start + to);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof PathKey)) {
+        return false;
+      }
+      PathKey other = (PathKey) o;
+      return length() == other.length() && uri.regionMatches(start, other.uri, other.start, length());
+    }
+
+    @Override
+    public int hashCode() {
+      // Same as String#hashCode of the path
+      int h = hash;
+      if (h == 0) {
+        for (int i = start; i < end; i++) {
+          h = 31 * h + uri.charAt(i);
+        }
+        hash = h;
+      }
+      return h;
+    }
+
+    @Override
+    public String toString() {
+      return start == 0 && end == uri.length() ? uri : uri.substring(start, end);
+    }
+  }
+}
@@ -21,6 +21,7 @@ import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
 
 /**
  * Handler to expose Prometheus metrics via an HTTP endpoint.
@@ -32,7 +33,7 @@ import io.vertx.core.http.HttpServerRequest;
  */
 public class PrometheusRequestHandlerImpl implements Handler<HttpServerRequest> {
 
-  private final PrometheusMeterRegistry registry;
+  private final PrometheusScraper scraper;
   private final String metricsEndpoint;
 
   /**
@@ -42,7 +43,17 @@ public class PrometheusRequestHandlerImpl implements Handler<HttpServerRequest>
    * @param metricsEndpoint the endpoint to expose metrics
    */
   public PrometheusRequestHandlerImpl(PrometheusMeterRegistry registry, String metricsEndpoint) {
-    this.registry = registry;
+    this(new PrometheusScraper(registry), metricsEndpoint);
+  }
+
+  /**
+   * Constructs a handler with the specified scraper and metrics endpoint.
+   *
+   * @param scraper         the scraper rendering the metrics
+   * @param metricsEndpoint the endpoint to expose metrics
+   */
+  public PrometheusRequestHandlerImpl(PrometheusScraper scraper, String metricsEndpoint) {
+    this.scraper = scraper;
     this.metricsEndpoint = metricsEndpoint;
   }
 
@@ -52,24 +63,29 @@ public class PrometheusRequestHandlerImpl implements Handler<HttpServerRequest>
    * @param registry the PrometheusMeterRegistry to use for scraping metrics
    */
   public PrometheusRequestHandlerImpl(PrometheusMeterRegistry registry) {
-    this.registry = registry;
-    this.metricsEndpoint = "/metrics";
+    this(registry, "/metrics");
   }
 
   /**
    * Constructs a handler with a new PrometheusMeterRegistry and the default metrics endpoint ("/metrics").
    */
   public PrometheusRequestHandlerImpl() {
-    this.registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
-    this.metricsEndpoint = "/metrics";
+    this(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
   }
 
   @Override
   public void handle(HttpServerRequest request) {
     if (metricsEndpoint.equals(request.path())) {
-      request.response()
-        .putHeader(HttpHeaders.CONTENT_TYPE, "text/plain; version=0.0.4; charset=utf-8")
-        .end(registry.scrape());
+      HttpServerResponse response = request.response();
+      ExpositionFormat format = ExpositionFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+      boolean gzip = scraper.shouldGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+      scraper.serve(response, format, gzip).onFailure(err -> {
+        if (response.headWritten()) {
+          response.reset();
+        } else if (!response.ended()) {
+          response.setStatusCode(500).end();
+        }
+      });
     } else {
       request.response().setStatusCode(404).end();
     }
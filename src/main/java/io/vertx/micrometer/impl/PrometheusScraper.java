@@ -0,0 +1,325 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import io.vertx.core.Future;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.internal.ContextInternal;
+import io.vertx.micrometer.MetricsNaming;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Renders the Prometheus exposition of a registry off the event loop.
+ * <p>
+ * Rendering a large registry can take tens of milliseconds, so it is executed as blocking code. When a time-to-live is
+ * configured, the rendered body is kept and shared by all scrapes received within this delay, including scrapes
+ * arriving while the rendering is in progress.
+ * <p>
+ * When no time-to-live is configured, {@link #serve} streams the body to the response while it is rendered: the
+ * rendering blocks whenever the write queue of the response is full, so the memory held for a scrape is bounded by the
+ * write queue and the chunk size rather than by the size of the registry. A slow client then holds a worker thread for
+ * the whole scrape, which configuring a time-to-live avoids, as shared bodies are written from the event loop.
+ * <p>
+ * Shared bodies are rendered into a list of bounded {@link Buffer} chunks rather than into a single {@link String}, so
+ * that a large registry neither requires a humongous allocation nor a copy of the whole body when it is written. The
+ * whole body is then held in memory, for as long as it is shared.
+ * <p>
+ * When compression is enabled, a gzip variant of a shared body is computed once, by the first scrape requesting it, and
+ * kept along with the rendered body.
+ * <p>
+ * Each {@link ExpositionFormat} is rendered and cached independently.
+ */
+public class PrometheusScraper {
+
+  private final PrometheusMeterRegistry registry;
+  private final String scrapeTimeName;
+  private final long cacheTtl;
+  private final boolean compressionEnabled;
+
+  private final Slot[] slots;
+
+  /**
+   * Create a scraper which renders the registry for every scrape, without compression.
+   */
+  public PrometheusScraper(PrometheusMeterRegistry registry) {
+    this(registry, 0, TimeUnit.MILLISECONDS, false);
+  }
+
+  /**
+   * Create a scraper which shares a rendered body during {@code cacheTtl}.
+   * No caching happens if {@code cacheTtl} is not positive.
+   */
+  public PrometheusScraper(PrometheusMeterRegistry registry, long cacheTtl, TimeUnit unit, boolean compressionEnabled) {
+    this(registry, MetricsNaming.v4Names(), cacheTtl, unit, compressionEnabled);
+  }
+
+  /**
+   * Create a scraper which shares a rendered body during {@code cacheTtl}, recording the time spent rendering the
+   * registry with the timer named by {@code names}.
+   * No caching happens if {@code cacheTtl} is not positive.
+   */
+  public PrometheusScraper(PrometheusMeterRegistry registry, MetricsNaming names, long cacheTtl, TimeUnit unit, boolean compressionEnabled) {
+    this.registry = registry;
+    this.scrapeTimeName = "vertx." + names.getPrometheusScrapeTime();
+    this.cacheTtl = unit.toNanos(cacheTtl);
+    this.compressionEnabled = compressionEnabled;
+    slots = new Slot[ExpositionFormat.values().length];
+    for (int i = 0; i < slots.length; i++) {
+      slots[i] = new Slot();
+    }
+  }
+
+  public PrometheusMeterRegistry registry() {
+    return registry;
+  }
+
+  /**
+   * @return {@code true} if the body should be gzipped for a client sending this {@code Accept-Encoding} header
+   */
+  public boolean shouldGzip(String acceptEncoding) {
+    return compressionEnabled && acceptsGzip(acceptEncoding);
+  }
+
+  /**
+   * Scrape the registry. When called on a Vert.x context, the rendering is executed as blocking code and the returned
+   * future is completed on the calling context.
+   *
+   * @param format the exposition format
+   * @param gzip whether the gzip variant of the body must be returned
+   */
+  public Future<List<Buffer>> scrape(ExpositionFormat format, boolean gzip) {
+    ContextInternal context = (ContextInternal) Vertx.currentContext();
+    if (context == null) {
+      Rendering rendering;
+      try {
+        rendering = render(format);
+      } catch (Exception e) {
+        return Future.failedFuture(e);
+      }
+      return gzip ? rendering.gzipped(null) : Future.succeededFuture(rendering.plain);
+    }
+    Future<Rendering> future = cacheTtl <= 0 ? context.executeBlocking(() -> render(format), false) : shared(context, format);
+    if (!gzip) {
+      return future.map(rendering -> rendering.plain);
+    }
+    return future.compose(rendering -> {
+      Promise<List<Buffer>> promise = context.promise();
+      rendering.gzipped(context).onComplete(promise);
+      return promise.future();
+    });
+  }
+
+  private Future<Rendering> shared(ContextInternal context, ExpositionFormat format) {
+    Slot slot = slots[format.ordinal()];
+    Future<Rendering> shared;
+    synchronized (slot) {
+      if (slot.cached != null && System.nanoTime() - slot.cachedAt < cacheTtl) {
+        return context.succeededFuture(slot.cached);
+      }
+      if (slot.pending == null) {
+        long start = System.nanoTime();
+        Promise<Rendering> promise = Promise.promise();
+        slot.pending = promise.future();
+        context.executeBlocking(() -> render(format), false).onComplete(ar -> {
+          synchronized (slot) {
+            slot.pending = null;
+            if (ar.succeeded()) {
+              slot.cached = ar.result();
+              slot.cachedAt = start;
+            }
+          }
+          promise.handle(ar);
+        });
+      }
+      shared = slot.pending;
+    }
+    Promise<Rendering> promise = context.promise();
+    shared.onComplete(promise);
+    return promise.future();
+  }
+
+  /**
+   * Scrape the registry and write the body to the {@code response}, which is ended when the returned future succeeds.
+   * <p>
+   * When the returned future fails, the response may have been partially written already, in which case it can only be
+   * reset.
+   *
+   * @param format the exposition format
+   * @param gzip whether the body must be gzipped
+   */
+  public Future<Void> serve(HttpServerResponse response, ExpositionFormat format, boolean gzip) {
+    ContextInternal context = (ContextInternal) Vertx.currentContext();
+    if (cacheTtl > 0 || context == null) {
+      return scrape(format, gzip).compose(chunks -> end(response, format.contentType(), gzip, chunks));
+    }
+    putHeaders(response, format.contentType(), gzip);
+    response.setChunked(true);
+    return context.<Void>executeBlocking(() -> {
+      OutputStream out = new ResponseOutputStream(context, response, BufferChunksOutputStream.DEFAULT_CHUNK_SIZE);
+      try (OutputStream body = gzip ? new GZIPOutputStream(out) : out) {
+        render(format, body);
+      }
+      return null;
+    }, false).compose(v -> response.end());
+  }
+
+  private Rendering render(ExpositionFormat format) throws IOException {
+    BufferChunksOutputStream out = new BufferChunksOutputStream();
+    render(format, out);
+    return new Rendering(out.chunks());
+  }
+
+  private void render(ExpositionFormat format, OutputStream out) throws IOException {
+    Timer.Sample sample = Timer.start();
+    try {
+      registry.scrape(out, format.contentType());
+    } finally {
+      sample.stop(Timer.builder(scrapeTimeName)
+        .description("Time spent rendering the Prometheus exposition")
+        .tag("format", format.name().toLowerCase())
+        .register(registry));
+    }
+  }
+
+  /**
+   * Write the rendered {@code chunks} to the {@code response} and end it. The chunks are already held in memory, so
+   * they are written at once, regardless of the write queue of the response.
+   */
+  private static Future<Void> end(HttpServerResponse response, String contentType, boolean gzip, List<Buffer> chunks) {
+    long length = 0;
+    for (Buffer chunk : chunks) {
+      length += chunk.length();
+    }
+    putHeaders(response, contentType, gzip);
+    response.putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(length));
+    int last = chunks.size() - 1;
+    for (int i = 0; i < last; i++) {
+      response.write(chunks.get(i));
+    }
+    return last >= 0 ? response.end(chunks.get(last)) : response.end();
+  }
+
+  private static void putHeaders(HttpServerResponse response, String contentType, boolean gzip) {
+    response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+    if (gzip) {
+      response
+        .putHeader(HttpHeaders.CONTENT_ENCODING, "gzip")
+        .putHeader(HttpHeaders.VARY, "Accept, Accept-Encoding");
+    } else {
+      response.putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+  }
+
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      int idx = coding.indexOf(';');
+      String name = (idx < 0 ? coding : coding.substring(0, idx)).trim();
+      if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+        return idx < 0 || !isZeroQuality(coding.substring(idx + 1));
+      }
+    }
+    return false;
+  }
+
+  private static boolean isZeroQuality(String params) {
+    for (String param : params.split(";")) {
+      String p = param.trim();
+      if (p.startsWith("q=")) {
+        try {
+          return Double.parseDouble(p.substring(2).trim()) == 0;
+        } catch (NumberFormatException e) {
+          return false;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static final class Slot {
+    // Guarded by this
+    Future<Rendering> pending;
+    Rendering cached;
+    long cachedAt;
+  }
+
+  private static final class Rendering {
+
+    final List<Buffer> plain;
+    final AtomicReference<Future<List<Buffer>>> gzipping = new AtomicReference<>();
+
+    Rendering(List<Buffer> plain) {
+      this.plain = plain;
+    }
+
+    /**
+     * @return the gzip variant of the body, compressed once by the first caller, as blocking code when on a context
+     */
+    Future<List<Buffer>> gzipped(ContextInternal context) {
+      Future<List<Buffer>> future;
+      while ((future = gzipping.get()) == null) {
+        Promise<List<Buffer>> promise = Promise.promise();
+        if (gzipping.compareAndSet(null, promise.future())) {
+          Future<List<Buffer>> compressed;
+          if (context == null) {
+            try {
+              compressed = Future.succeededFuture(gzip());
+            } catch (IOException e) {
+              compressed = Future.failedFuture(e);
+            }
+          } else {
+            compressed = context.executeBlocking(this::gzip, false);
+          }
+          compressed.onComplete(ar -> {
+            if (ar.failed()) {
+              // Let a later scrape try again
+              gzipping.compareAndSet(promise.future(), null);
+            }
+            promise.handle(ar);
+          });
+          return promise.future();
+        }
+      }
+      return future;
+    }
+
+    private List<Buffer> gzip() throws IOException {
+      BufferChunksOutputStream out = new BufferChunksOutputStream();
+      try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+        for (Buffer chunk : plain) {
+          gzip.write(chunk.getBytes());
+        }
+      }
+      return out.chunks();
+    }
+  }
+}
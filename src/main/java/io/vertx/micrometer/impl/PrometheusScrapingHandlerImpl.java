@@ -19,11 +19,14 @@ package io.vertx.micrometer.impl;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
 import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.ext.web.RoutingContext;
+import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.backends.BackendRegistries;
+import io.vertx.micrometer.backends.BackendRegistry;
+import io.vertx.micrometer.backends.PrometheusBackendRegistry;
 
 import java.util.Objects;
-import static io.vertx.core.http.HttpHeaders.*;
 
 /**
  * @author Thomas Segismont
@@ -31,37 +34,43 @@ import static io.vertx.core.http.HttpHeaders.*;
 public class PrometheusScrapingHandlerImpl implements Handler<RoutingContext> {
 
   private final String registryName;
-  private final PrometheusMeterRegistry registry;
+  private final PrometheusScraper scraper;
+  private volatile PrometheusScraper lastScraper;
 
   public PrometheusScrapingHandlerImpl() {
     registryName = null;
-    registry = null;
+    scraper = null;
   }
 
   public PrometheusScrapingHandlerImpl(String registryName) {
     this.registryName = Objects.requireNonNull(registryName);
-    registry = null;
+    scraper = null;
   }
 
   public PrometheusScrapingHandlerImpl(PrometheusMeterRegistry registry) {
     registryName = null;
-    this.registry = Objects.requireNonNull(registry);
+    scraper = new PrometheusScraper(Objects.requireNonNull(registry));
   }
 
   @Override
   public void handle(RoutingContext rc) {
-    if (registry != null) {
-      scrapeAndReply(rc, registry);
+    if (scraper != null) {
+      scrapeAndReply(rc, scraper);
       return;
     }
-    MeterRegistry registry;
-    if (registryName == null) {
-      registry = BackendRegistries.getDefaultNow();
-    } else {
-      registry = BackendRegistries.getNow(registryName);
+    BackendRegistry backendRegistry = BackendRegistries.getBackendNow(registryName == null ? MicrometerMetricsOptions.DEFAULT_REGISTRY_NAME : registryName);
+    if (backendRegistry instanceof PrometheusBackendRegistry) {
+      scrapeAndReply(rc, ((PrometheusBackendRegistry) backendRegistry).scraper());
+      return;
     }
+    MeterRegistry registry = backendRegistry != null ? backendRegistry.getMeterRegistry() : null;
     if (registry instanceof PrometheusMeterRegistry) {
-      scrapeAndReply(rc, (PrometheusMeterRegistry) registry);
+      // Prometheus registry provided by the user, without Prometheus options
+      PrometheusScraper s = lastScraper;
+      if (s == null || s.registry() != registry) {
+        lastScraper = s = new PrometheusScraper((PrometheusMeterRegistry) registry);
+      }
+      scrapeAndReply(rc, s);
     } else {
       String statusMessage = "Invalid registry: " + (registry != null ? registry.getClass().getName() : null);
       rc.response()
@@ -70,9 +79,15 @@ public class PrometheusScrapingHandlerImpl implements Handler<RoutingContext> {
     }
   }
 
-  private static void scrapeAndReply(RoutingContext rc, PrometheusMeterRegistry prometheusMeterRegistry) {
-    rc.response()
-      .putHeader(CONTENT_TYPE, "text/plain; version=0.0.4; charset=utf-8")
-      .end(prometheusMeterRegistry.scrape());
+  private static void scrapeAndReply(RoutingContext rc, PrometheusScraper scraper) {
+    ExpositionFormat format = ExpositionFormat.negotiate(rc.request().getHeader(HttpHeaders.ACCEPT));
+    boolean gzip = scraper.shouldGzip(rc.request().getHeader(HttpHeaders.ACCEPT_ENCODING));
+    scraper.serve(rc.response(), format, gzip).onFailure(err -> {
+      if (rc.response().headWritten()) {
+        rc.response().reset();
+      } else if (!rc.response().ended()) {
+        rc.fail(err);
+      }
+    });
   }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl;
+
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerResponse;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * An {@link OutputStream} writing bytes to an {@link HttpServerResponse} in chunks of a bounded size, from a worker
+ * thread.
+ * <p>
+ * When the write queue of the response is full, writing blocks until it is drained, so that at most a write queue of
+ * chunks is held in memory whatever the amount of bytes written. Writing fails once the response is closed.
+ * <p>
+ * Blocking has a cost: the worker thread is held for as long as the client takes to read the body, so a slow client
+ * holds a worker for the whole scrape. The drain handler is set and cleared on the {@code context} of the response,
+ * and a response closed while the queue is full releases the writer through the failure of its pending write.
+ * <p>
+ * Closing the stream writes the last chunk but does not end the response.
+ */
+final class ResponseOutputStream extends OutputStream {
+
+  private final Context context;
+  private final HttpServerResponse response;
+  private final int chunkSize;
+  private Buffer current;
+
+  ResponseOutputStream(Context context, HttpServerResponse response, int chunkSize) {
+    this.context = context;
+    this.response = response;
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    current().appendByte((byte) b);
+    writeChunkIfFull();
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    while (len > 0) {
+      Buffer chunk = current();
+      int n = Math.min(len, chunkSize - chunk.length());
+      chunk.appendBytes(b, off, n);
+      off += n;
+      len -= n;
+      writeChunkIfFull();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (current != null && current.length() > 0) {
+      writeChunk();
+    }
+  }
+
+  private Buffer current() {
+    if (current == null) {
+      current = Buffer.buffer(chunkSize);
+    }
+    return current;
+  }
+
+  private void writeChunkIfFull() throws IOException {
+    if (current.length() == chunkSize) {
+      writeChunk();
+    }
+  }
+
+  private void writeChunk() throws IOException {
+    Buffer chunk = current;
+    current = null;
+    if (response.closed()) {
+      throw new IOException("Response closed");
+    }
+    Future<Void> write = response.write(chunk);
+    if (response.writeQueueFull()) {
+      awaitDrain(write);
+    }
+  }
+
+  private void awaitDrain(Future<Void> write) throws IOException {
+    CountDownLatch released = new CountDownLatch(1);
+    context.runOnContext(v -> {
+      // The queue may have been drained before reaching the context
+      if (!response.writeQueueFull() || response.closed()) {
+        released.countDown();
+        return;
+      }
+      response.drainHandler(d -> {
+        response.drainHandler(null);
+        released.countDown();
+      });
+      // A closed response is never drained, but its pending writes fail
+      write.onFailure(err -> released.countDown());
+    });
+    try {
+      released.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException();
+    }
+    if (response.closed()) {
+      throw new IOException("Response closed");
+    }
+  }
+}
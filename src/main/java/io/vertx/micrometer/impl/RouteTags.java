@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl;
+
+import io.micrometer.core.instrument.Tag;
+import io.vertx.micrometer.CardinalityLimit;
+import io.vertx.micrometer.impl.tags.CardinalityGuard;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.vertx.micrometer.Label.HTTP_ROUTE;
+
+/**
+ * Interns the chains of routes of requests, e.g. {@code /api>/users>/:id} for a request routed through sub-routers.
+ * <p>
+ * Chains form a tree starting from the {@link #root() empty chain}. Each chain holds its joined string and its
+ * {@link io.vertx.micrometer.Label#HTTP_ROUTE} tag, so that routing a request through a known chain allocates nothing.
+ * At most {@code maxSize} chains are retained: past that, chains are still resolved but no longer shared.
+ */
+public final class RouteTags {
+
+  private final CardinalityGuard guard;
+  private final int maxSize;
+  private final AtomicInteger size;
+  private final Tag overflow;
+  private final Chain root;
+
+  /**
+   * @param guard the cardinality guard of the route label
+   * @param cacheEnabled whether chains should be retained
+   */
+  public RouteTags(CardinalityGuard guard, boolean cacheEnabled) {
+    this.guard = guard;
+    this.maxSize = cacheEnabled ? MeterCache.DEFAULT_MAX_SIZE : 0;
+    this.size = new AtomicInteger();
+    this.overflow = Tag.of(HTTP_ROUTE.toString(), CardinalityLimit.OVERFLOW_VALUE);
+    this.root = new Chain("");
+  }
+
+  /**
+   * @return the chain of a request not routed yet
+   */
+  public Chain root() {
+    return root;
+  }
+
+  public final class Chain {
+
+    private final String value;
+    private volatile ConcurrentMap<String, Chain> next;
+    private volatile Tag tag;
+
+    private Chain(String value) {
+      this.value = value;
+    }
+
+    /**
+     * @return the chain followed by {@code route}
+     */
+    public Chain next(String route) {
+      ConcurrentMap<String, Chain> map = next;
+      Chain chain = map != null ? map.get(route) : null;
+      if (chain != null) {
+        return chain;
+      }
+      chain = new Chain(this == root ? route : value + '>' + route);
+      if (size.get() < maxSize) {
+        Chain previous = nextMap().putIfAbsent(route, chain);
+        if (previous != null) {
+          return previous;
+        }
+        size.incrementAndGet();
+      }
+      return chain;
+    }
+
+    private synchronized ConcurrentMap<String, Chain> nextMap() {
+      if (next == null) {
+        next = new ConcurrentHashMap<>();
+      }
+      return next;
+    }
+
+    /**
+     * @return the joined routes of the chain
+     */
+    public String value() {
+      return value;
+    }
+
+    /**
+     * @return the route tag of the chain, {@link CardinalityLimit#OVERFLOW_VALUE} if the route label exceeds its limit
+     */
+    public Tag tag() {
+      Tag t = tag;
+      if (t == null) {
+        tag = t = guard.admit(value) ? Tag.of(HTTP_ROUTE.toString(), value) : overflow;
+      }
+      if (t == overflow) {
+        guard.fold();
+      }
+      return t;
+    }
+  }
+}
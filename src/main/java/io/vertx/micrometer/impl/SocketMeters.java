@@ -0,0 +1,219 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Tags;
+import io.vertx.micrometer.impl.meters.ConfinedCounter;
+import io.vertx.micrometer.impl.meters.LongGaugeBuilder;
+import io.vertx.micrometer.impl.tags.CardinalityGuard;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+/**
+ * The connection and byte meters of a server or a client, shared by the connections with the same tags.
+ * <p>
+ * Meters are reference-counted by connections. When an idle timeout is set, the meters without connections for longer
+ * than the timeout are removed from the registry. Idle meters are looked for when connections are opened or closed, at
+ * most once per timeout. Until then, a new connection reuses the idle meters of its tags, unless socket meters were
+ * removed from the registry since they were registered, e.g. by another server or client with the same tags. The remote address of removed meters is released from the cardinality guard, if any, so that
+ * the guard bounds the number of remote addresses with meters rather than the number of remote addresses ever seen.
+ */
+class SocketMeters {
+
+  private final AbstractMetrics metrics;
+  private final String connectionsDescription;
+  private final String bytesReceivedDescription;
+  private final String bytesSentDescription;
+  private final ConcurrentMap<Tags, Meters> meters = new ConcurrentHashMap<>();
+  private final long idleTimeout;
+  private final AtomicLong nextEviction;
+  private final Counter evicted;
+  private final CardinalityGuard remoteGuard;
+  private final IntSupplier removals;
+
+  /**
+   * @param remoteGuard the guard of the remote addresses, released when their meters are removed
+   */
+  SocketMeters(AbstractMetrics metrics, Tags tags, CardinalityGuard remoteGuard, String connectionsDescription,
+               String bytesReceivedDescription, String bytesSentDescription) {
+    this.metrics = metrics;
+    this.remoteGuard = remoteGuard;
+    this.connectionsDescription = connectionsDescription;
+    this.bytesReceivedDescription = bytesReceivedDescription;
+    this.bytesSentDescription = bytesSentDescription;
+    idleTimeout = metrics.netMeterIdleTimeout();
+    removals = metrics.meterRemovals(metrics.names.getNetActiveConnections(), metrics.names.getNetBytesRead(),
+      metrics.names.getNetBytesWritten());
+    if (idleTimeout > 0) {
+      nextEviction = new AtomicLong(System.nanoTime() + idleTimeout);
+      evicted = Counter.builder(metrics.names.getNetMetersEvicted())
+        .description("Number of meters removed after their connections were idle")
+        .tags(tags)
+        .register(metrics.registry);
+    } else {
+      nextEviction = null;
+      evicted = null;
+    }
+  }
+
+  /**
+   * @param remote the value of the remote label in {@code tags}, or {@code null}
+   * @return the meters of {@code tags}, with one more connection
+   */
+  Meters acquire(Tags tags, String remote) {
+    Meters m = meters.compute(tags, (key, current) -> {
+      Meters res;
+      if (current != null && (current.refs > 0 || idleTimeout <= 0 || current.removals == removals.getAsInt())) {
+        res = current;
+      } else {
+        // Idle meters may have been removed by another server or client with the same tags, register them again
+        res = new Meters(key, remote);
+        if (current != null) {
+          current.releaseRemote();
+        }
+      }
+      res.refs++;
+      return res;
+    });
+    m.connections.increment();
+    evictIdle();
+    return m;
+  }
+
+  /**
+   * Release the meters acquired by a connection.
+   */
+  void release(Meters m) {
+    m.connections.decrement();
+    meters.computeIfPresent(m.tags, (key, current) -> {
+      if (--current.refs == 0) {
+        current.idleSince = System.nanoTime();
+      }
+      return current;
+    });
+    evictIdle();
+  }
+
+  private void evictIdle() {
+    if (idleTimeout <= 0) {
+      return;
+    }
+    long now = System.nanoTime();
+    long next = nextEviction.get();
+    if (now - next < 0 || !nextEviction.compareAndSet(next, now + idleTimeout)) {
+      return;
+    }
+    for (Tags tags : meters.keySet()) {
+      meters.computeIfPresent(tags, (key, current) -> {
+        // Meters with the same id are shared with other servers or clients, see LongGauges
+        // A connection of another one may still be opened concurrently, its meters are then lost until it is closed
+        if (current.refs > 0 || now - current.idleSince < idleTimeout || current.connections.sum() > 0) {
+          return current;
+        }
+        evicted.increment(current.remove());
+        return null;
+      });
+    }
+  }
+
+  class Meters {
+
+    final Tags tags;
+    final LongAdder connections;
+    final Counter bytesReceived;
+    final Counter bytesSent;
+    final ConfinedCounter confinedBytesReceived;
+    final ConfinedCounter confinedBytesSent;
+    private final String remote;
+    private final Meter.Id connectionsId;
+    // The count of socket meter removals when these meters were registered
+    private final int removals;
+
+    // Guarded by the map entry
+    private int refs;
+    private long idleSince;
+
+    private Meters(Tags tags, String remote) {
+      this.tags = tags;
+      this.remote = remote;
+      removals = SocketMeters.this.removals.getAsInt();
+      LongGaugeBuilder connectionsBuilder = metrics.longGaugeBuilder(metrics.names.getNetActiveConnections(), LongAdder::doubleValue)
+        .description(connectionsDescription)
+        .tags(tags);
+      connections = connectionsBuilder.register(metrics.registry);
+      connectionsId = connectionsBuilder.id();
+      if (metrics.confinedCountersEnabled()) {
+        bytesReceived = null;
+        bytesSent = null;
+        confinedBytesReceived = metrics.confinedCounter(metrics.names.getNetBytesRead(), bytesReceivedDescription, tags);
+        confinedBytesSent = metrics.confinedCounter(metrics.names.getNetBytesWritten(), bytesSentDescription, tags);
+      } else {
+        bytesReceived = Counter.builder(metrics.names.getNetBytesRead())
+          .description(bytesReceivedDescription)
+          .tags(tags)
+          .register(metrics.registry);
+        bytesSent = Counter.builder(metrics.names.getNetBytesWritten())
+          .description(bytesSentDescription)
+          .tags(tags)
+          .register(metrics.registry);
+        confinedBytesReceived = null;
+        confinedBytesSent = null;
+      }
+      if (remote != null) {
+        remoteGuard.retain(remote);
+      }
+    }
+
+    /**
+     * @return the number of meters removed from the registry
+     */
+    private int remove() {
+      int removed = 0;
+      removed += count(metrics.registry.remove(connectionsId));
+      if (bytesReceived != null) {
+        removed += count(metrics.registry.remove(bytesReceived));
+        removed += count(metrics.registry.remove(bytesSent));
+      } else {
+        removed += count(metrics.registry.remove(confinedBytesReceived.id()));
+        removed += count(metrics.registry.remove(confinedBytesSent.id()));
+      }
+      // Error counters are registered on demand, with an additional class name tag when enabled
+      for (Meter meter : metrics.registry.find(metrics.names.getNetErrorCount()).tags(tags).meters()) {
+        removed += count(metrics.registry.remove(meter));
+      }
+      releaseRemote();
+      return removed;
+    }
+
+    private int count(Meter removed) {
+      return removed != null ? 1 : 0;
+    }
+
+    private void releaseRemote() {
+      if (remote != null) {
+        remoteGuard.release(remote);
+      }
+    }
+  }
+}
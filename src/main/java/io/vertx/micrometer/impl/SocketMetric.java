@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vertx.micrometer.impl;
+
+import io.micrometer.core.instrument.Tags;
+import io.vertx.micrometer.impl.meters.ConfinedCounter;
+
+/**
+ * The metric of a connection of a server or a client, recording into the {@link SocketMeters} of its tags.
+ * <p>
+ * When socket counters are confined, the connection increments its own cells of the byte counters, closed with it.
+ */
+class SocketMetric {
+
+  final Tags tags;
+  private final SocketMeters socketMeters;
+  private final SocketMeters.Meters meters;
+  private final ConfinedCounter.Cell bytesReceivedCell;
+  private final ConfinedCounter.Cell bytesSentCell;
+
+  SocketMetric(SocketMeters socketMeters, SocketMeters.Meters meters) {
+    this.tags = meters.tags;
+    this.socketMeters = socketMeters;
+    this.meters = meters;
+    if (meters.confinedBytesReceived != null) {
+      bytesReceivedCell = meters.confinedBytesReceived.open();
+      bytesSentCell = meters.confinedBytesSent.open();
+    } else {
+      bytesReceivedCell = null;
+      bytesSentCell = null;
+    }
+  }
+
+  void bytesReceived(long numberOfBytes) {
+    if (bytesReceivedCell != null) {
+      bytesReceivedCell.increment(numberOfBytes);
+    } else {
+      meters.bytesReceived.increment(numberOfBytes);
+    }
+  }
+
+  void bytesSent(long numberOfBytes) {
+    if (bytesSentCell != null) {
+      bytesSentCell.increment(numberOfBytes);
+    } else {
+      meters.bytesSent.increment(numberOfBytes);
+    }
+  }
+
+  void close() {
+    if (bytesReceivedCell != null) {
+      bytesReceivedCell.close();
+      bytesSentCell.close();
+    }
+    socketMeters.release(meters);
+  }
+}
@@ -74,7 +74,7 @@ class VertxClientMetrics extends AbstractMetrics implements ClientMetrics<VertxC
   public void requestBegin(RequestMetric requestMetric, String uri, Object request) {
     // Ignore parameters at the moment; need to carefully figure out what can be labelled or not
     processingPending.increment();
-    requestMetric.sample = Timer.start();
+    requestMetric.sample = timerStart();
   }
 
   @Override
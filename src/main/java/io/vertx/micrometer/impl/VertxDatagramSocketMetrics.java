@@ -77,7 +77,7 @@ class VertxDatagramSocketMetrics extends AbstractMetrics implements DatagramSock
   public void exceptionOccurred(Void socketMetric, SocketAddress remoteAddress, Throwable t) {
     Tags tags;
     if (enabledLabels.contains(CLASS_NAME)) {
-      tags = Tags.of(CLASS_NAME.toString(), t.getClass().getSimpleName());
+      tags = Tags.of(Labels.className(t));
     } else {
       tags = Tags.empty();
     }
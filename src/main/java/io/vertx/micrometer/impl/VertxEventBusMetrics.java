@@ -23,6 +23,7 @@ import io.vertx.core.eventbus.Message;
 import io.vertx.core.eventbus.ReplyFailure;
 import io.vertx.core.spi.metrics.EventBusMetrics;
 import io.vertx.micrometer.impl.VertxEventBusMetrics.HandlerMetric;
+import io.vertx.micrometer.impl.tags.CardinalityGuard;
 import io.vertx.micrometer.impl.tags.Labels;
 
 import java.util.concurrent.atomic.LongAdder;
@@ -42,6 +43,10 @@ class VertxEventBusMetrics extends AbstractMetrics implements EventBusMetrics<Ha
   private final MeterProvider<DistributionSummary> ebBytesWritten;
   private final MeterProvider<DistributionSummary> ebBytesRead;
   private final MeterProvider<Counter> ebReplyFailures;
+  private final MeterCache<String, AddressMetrics> localAddresses;
+  private final MeterCache<String, AddressMetrics> remoteAddresses;
+  private final MeterCache<String, AddressMetrics> addresses;
+  private final CardinalityGuard addressGuard;
 
   VertxEventBusMetrics(AbstractMetrics parent) {
     super(parent, EVENT_BUS);
@@ -66,6 +71,12 @@ class VertxEventBusMetrics extends AbstractMetrics implements EventBusMetrics<Ha
     ebReplyFailures = Counter.builder(names.getEbReplyFailures())
       .description("Number of message reply failures")
       .withRegistry(registry);
+    String[] addressMeters = {names.getEbPublished(), names.getEbSent(), names.getEbReceived(), names.getEbDelivered(),
+      names.getEbPending(), names.getEbBytesWritten(), names.getEbBytesRead()};
+    localAddresses = meterCache(addressMeters);
+    remoteAddresses = meterCache(addressMeters);
+    addresses = meterCache(addressMeters);
+    addressGuard = cardinalityGuard(EB_ADDRESS);
   }
 
   private static boolean isNotInternal(String address) {
@@ -118,38 +129,51 @@ class VertxEventBusMetrics extends AbstractMetrics implements EventBusMetrics<Ha
   @Override
   public void messageSent(String address, boolean publish, boolean local, boolean remote) {
     if (isNotInternal(address)) {
-      Tags tags = addressAndSide(address, local);
+      AddressMetrics addressMetrics = addressAndSide(address, local);
       if (publish) {
-        ebPublished.withTags(tags).increment();
+        addressMetrics.published().increment();
       } else {
-        ebSent.withTags(tags).increment();
+        addressMetrics.sent().increment();
       }
     }
   }
 
-  private Tags addressAndSide(String address, boolean local) {
+  private AddressMetrics addressAndSide(String address, boolean local) {
+    String key = addressKey(address);
+    if (local) {
+      return localAddresses.get(key, k -> new AddressMetrics(addressTags(k).and(sideTags(true))));
+    }
+    return remoteAddresses.get(key, k -> new AddressMetrics(addressTags(k).and(sideTags(false))));
+  }
+
+  // when the address label is disabled, all addresses share the same meters
+  private String addressKey(String address) {
+    return enabledLabels.contains(EB_ADDRESS) ? addressGuard.apply(address) : "";
+  }
+
+  private Tags addressTags(String addressKey) {
     Tags tags = Tags.empty();
     if (enabledLabels.contains(EB_ADDRESS)) {
-      tags = tags.and(EB_ADDRESS.toString(), address);
+      tags = tags.and(EB_ADDRESS.toString(), addressKey);
     }
+    return tags;
+  }
+
+  private Tags sideTags(boolean local) {
     if (enabledLabels.contains(EB_SIDE)) {
-      tags = tags.and(Labels.side(local));
+      return Tags.of(Labels.side(local));
     }
-    return tags;
+    return Tags.empty();
   }
 
   @Override
   public void messageReceived(String address, boolean publish, boolean local, int handlers) {
     if (isNotInternal(address)) {
-      Tags tags = addressAndSide(address, local);
-      ebReceived.withTags(tags).increment();
+      AddressMetrics addressMetrics = addressAndSide(address, local);
+      addressMetrics.received().increment();
       if (handlers > 0) {
-        longGaugeBuilder(names.getEbPending(), LongAdder::doubleValue)
-          .description("Number of messages not processed yet")
-          .tags(tags)
-          .register(registry)
-          .add(handlers);
-        ebDelivered.withTags(tags).increment();
+        addressMetrics.pending().add(handlers);
+        addressMetrics.delivered().increment();
       }
     }
   }
@@ -157,24 +181,18 @@ class VertxEventBusMetrics extends AbstractMetrics implements EventBusMetrics<Ha
   @Override
   public void messageWritten(String address, int numberOfBytes) {
     if (isNotInternal(address)) {
-      Tags tags = address(address);
-      ebBytesWritten.withTags(tags).record(numberOfBytes);
+      address(address).bytesWritten().record(numberOfBytes);
     }
   }
 
-  private Tags address(String address) {
-    Tags tags = Tags.empty();
-    if (enabledLabels.contains(EB_ADDRESS)) {
-      tags = tags.and(EB_ADDRESS.toString(), address);
-    }
-    return tags;
+  private AddressMetrics address(String address) {
+    return addresses.get(addressKey(address), k -> new AddressMetrics(addressTags(k)));
   }
 
   @Override
   public void messageRead(String address, int numberOfBytes) {
     if (isNotInternal(address)) {
-      Tags tags = address(address);
-      ebBytesRead.withTags(tags).record(numberOfBytes);
+      address(address).bytesRead().record(numberOfBytes);
     }
   }
 
@@ -189,7 +207,7 @@ class VertxEventBusMetrics extends AbstractMetrics implements EventBusMetrics<Ha
   private Tags addressAndFailure(String address, ReplyFailure replyFailure) {
     Tags tags = Tags.empty();
     if (enabledLabels.contains(EB_ADDRESS)) {
-      tags = tags.and(EB_ADDRESS.toString(), address);
+      tags = tags.and(EB_ADDRESS.toString(), addressGuard.apply(address));
     }
     if (enabledLabels.contains(EB_FAILURE)) {
       tags = tags.and(EB_FAILURE.toString(), replyFailure.name());
@@ -197,6 +215,90 @@ class VertxEventBusMetrics extends AbstractMetrics implements EventBusMetrics<Ha
     return tags;
   }
 
+  // meters of an address (and side, if enabled), resolved lazily so that only the meters in use are registered
+  class AddressMetrics {
+
+    final Tags tags;
+
+    private Counter published;
+    private Counter sent;
+    private Counter received;
+    private Counter delivered;
+    private LongAdder pending;
+    private DistributionSummary bytesWritten;
+    private DistributionSummary bytesRead;
+
+    AddressMetrics(Tags tags) {
+      this.tags = tags;
+    }
+
+    Counter published() {
+      Counter c = published;
+      if (c == null) {
+        c = ebPublished.withTags(tags);
+        published = c;
+      }
+      return c;
+    }
+
+    Counter sent() {
+      Counter c = sent;
+      if (c == null) {
+        c = ebSent.withTags(tags);
+        sent = c;
+      }
+      return c;
+    }
+
+    Counter received() {
+      Counter c = received;
+      if (c == null) {
+        c = ebReceived.withTags(tags);
+        received = c;
+      }
+      return c;
+    }
+
+    Counter delivered() {
+      Counter c = delivered;
+      if (c == null) {
+        c = ebDelivered.withTags(tags);
+        delivered = c;
+      }
+      return c;
+    }
+
+    LongAdder pending() {
+      LongAdder p = pending;
+      if (p == null) {
+        p = longGaugeBuilder(names.getEbPending(), LongAdder::doubleValue)
+          .description("Number of messages not processed yet")
+          .tags(tags)
+          .register(registry);
+        pending = p;
+      }
+      return p;
+    }
+
+    DistributionSummary bytesWritten() {
+      DistributionSummary s = bytesWritten;
+      if (s == null) {
+        s = ebBytesWritten.withTags(tags);
+        bytesWritten = s;
+      }
+      return s;
+    }
+
+    DistributionSummary bytesRead() {
+      DistributionSummary s = bytesRead;
+      if (s == null) {
+        s = ebBytesRead.withTags(tags);
+        bytesRead = s;
+      }
+      return s;
+    }
+  }
+
   class HandlerMetric {
 
     final LongAdder handlers;
@@ -210,7 +312,7 @@ class VertxEventBusMetrics extends AbstractMetrics implements EventBusMetrics<Ha
     HandlerMetric(String address) {
       Tags tags = Tags.empty();
       if (enabledLabels.contains(EB_ADDRESS)) {
-        tags = tags.and(EB_ADDRESS.toString(), address);
+        tags = tags.and(EB_ADDRESS.toString(), addressGuard.apply(address));
       }
       handlers = longGaugeBuilder(names.getEbHandlers(), LongAdder::doubleValue)
         .description("Number of event bus handlers in use")
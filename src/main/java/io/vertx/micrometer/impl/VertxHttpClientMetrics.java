@@ -26,8 +26,9 @@ import io.vertx.core.spi.metrics.HttpClientMetrics;
 import io.vertx.core.spi.observability.HttpRequest;
 import io.vertx.core.spi.observability.HttpResponse;
 import io.vertx.micrometer.impl.VertxHttpClientMetrics.RequestMetric;
-import io.vertx.micrometer.impl.VertxNetClientMetrics.NetClientSocketMetric;
+import io.vertx.micrometer.impl.tags.CardinalityGuard;
 import io.vertx.micrometer.impl.tags.Labels;
+import io.vertx.micrometer.impl.tags.PathNormalizer;
 
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
@@ -47,8 +48,12 @@ class VertxHttpClientMetrics extends AbstractMetrics implements HttpClientMetric
   private final MeterProvider<Timer> responseTime;
   private final MeterProvider<Counter> responseCount;
   private final MeterProvider<DistributionSummary> responseBytes;
+  private final MeterCache<Tags, LongAdder> activeRequests;
+  private final CardinalityGuard remoteGuard;
+  private final PathTags pathTags;
 
-  VertxHttpClientMetrics(AbstractMetrics parent, String metricsName, Function<HttpRequest, Iterable<Tag>> customTagsProvider, String localAddress) {
+  VertxHttpClientMetrics(AbstractMetrics parent, String metricsName, Function<HttpRequest, Iterable<Tag>> customTagsProvider,
+                         PathNormalizer pathNormalizer, String localAddress) {
     super(parent, HTTP_CLIENT);
     Tags base;
     if (enabledLabels.contains(CLIENT_NAME)) {
@@ -77,22 +82,33 @@ class VertxHttpClientMetrics extends AbstractMetrics implements HttpClientMetric
     responseBytes = DistributionSummary.builder(names.getHttpResponseBytes())
       .description("Size of responses in bytes")
       .withRegistry(registry);
+    activeRequests = meterCache(names.getHttpActiveRequests());
+    remoteGuard = cardinalityGuard(REMOTE);
+    pathTags = pathTags(pathNormalizer);
+    registerTimerSampleRate();
   }
 
   @Override
   public ClientMetrics<RequestMetric, HttpRequest, HttpResponse> createEndpointMetrics(SocketAddress remoteAddress, int maxPoolSize) {
     Tags endPointTags = local;
     if (enabledLabels.contains(REMOTE)) {
-      endPointTags = endPointTags.and(REMOTE.toString(), Labels.address(remoteAddress));
+      endPointTags = endPointTags.and(REMOTE.toString(), remoteGuard.apply(Labels.address(remoteAddress)));
     }
     return new EndpointMetrics(endPointTags);
   }
 
+  private LongAdder activeRequests(Tags tags) {
+    return longGaugeBuilder(names.getHttpActiveRequests(), LongAdder::doubleValue)
+      .description("Number of requests waiting for a response")
+      .tags(tags)
+      .register(registry);
+  }
+
   @Override
   public LongAdder connected(HttpRequest request) {
     Tags tags = local;
     if (enabledLabels.contains(REMOTE)) {
-      tags = tags.and(REMOTE.toString(), Labels.address(request.remoteAddress()));
+      tags = tags.and(REMOTE.toString(), remoteGuard.apply(Labels.address(request.remoteAddress())));
     }
     LongAdder wsConnections = longGaugeBuilder(names.getHttpActiveWsConnections(), LongAdder::doubleValue)
       .description("Number of websockets currently opened")
@@ -124,10 +140,10 @@ class VertxHttpClientMetrics extends AbstractMetrics implements HttpClientMetric
     public void requestBegin(RequestMetric requestMetric, String uri, HttpRequest request) {
       Tags tags = endPointTags;
       if (enabledLabels.contains(HTTP_PATH)) {
-        tags = tags.and(HTTP_PATH.toString(), HttpUtils.parsePath(request.uri()));
+        tags = tags.and(pathTags.get(request.uri()));
       }
       if (enabledLabels.contains(HTTP_METHOD)) {
-        tags = tags.and(HTTP_METHOD.toString(), request.method().toString());
+        tags = tags.and(Labels.method(request.method()));
       }
       if (customTagsProvider != null) {
         tags = tags.and(customTagsProvider.apply(request));
@@ -162,7 +178,9 @@ class VertxHttpClientMetrics extends AbstractMetrics implements HttpClientMetric
         requestMetric.requests.decrement();
       }
       responseCount.withTags(requestMetric.responseTags).increment();
-      requestMetric.sample.stop(responseTime.withTags(requestMetric.responseTags));
+      if (requestMetric.sample != null) {
+        requestMetric.sample.stop(responseTime.withTags(requestMetric.responseTags));
+      }
       responseBytes.withTags(requestMetric.responseTags).record(bytesRead);
     }
 
@@ -183,11 +201,8 @@ class VertxHttpClientMetrics extends AbstractMetrics implements HttpClientMetric
     void init(Tags tags) {
       this.tags = tags;
       responseTags = tags;
-      requests = longGaugeBuilder(names.getHttpActiveRequests(), LongAdder::doubleValue)
-        .description("Number of requests waiting for a response")
-        .tags(tags)
-        .register(registry);
-      sample = Timer.start();
+      requests = activeRequests.get(tags, VertxHttpClientMetrics.this::activeRequests);
+      sample = sampledTimerStart();
     }
 
     void requestReset() {
@@ -201,7 +216,7 @@ class VertxHttpClientMetrics extends AbstractMetrics implements HttpClientMetric
 
     void responseBegin(HttpResponse response) {
       if (enabledLabels.contains(HTTP_CODE)) {
-        responseTags = responseTags.and(HTTP_CODE.toString(), String.valueOf(response.statusCode()));
+        responseTags = responseTags.and(Labels.statusCode(response.statusCode()));
       }
     }
 
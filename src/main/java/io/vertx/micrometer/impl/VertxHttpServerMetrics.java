@@ -25,11 +25,11 @@ import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
 import io.vertx.core.spi.observability.HttpRequest;
 import io.vertx.core.spi.observability.HttpResponse;
+import io.vertx.micrometer.impl.tags.CardinalityGuard;
 import io.vertx.micrometer.impl.tags.Labels;
+import io.vertx.micrometer.impl.tags.PathNormalizer;
+import io.vertx.micrometer.impl.tags.TagTuple;
 
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
@@ -49,9 +49,15 @@ class VertxHttpServerMetrics extends AbstractMetrics implements HttpServerMetric
   private final MeterProvider<Counter> httpRequestsCount;
   private final MeterProvider<Timer> httpResponseTime;
   private final MeterProvider<DistributionSummary> httpResponseBytes;
+  private final MeterCache<TagTuple, Tags> requestTags;
+  private final MeterCache<TagTuple, ResponseMeters> responseMeters;
+  private final MeterCache<Tags, LongAdder> activeRequests;
+  private final CardinalityGuard remoteGuard;
+  private final PathTags pathTags;
+  private final RouteTags routeTags;
 
   VertxHttpServerMetrics(AbstractMetrics parent, Function<HttpRequest, Iterable<Tag>> customTagsProvider,
-                         String metricsName, SocketAddress tcpLocalAddress, SocketAddress udpLocalAddress) {
+                         PathNormalizer pathNormalizer, String metricsName, SocketAddress tcpLocalAddress, SocketAddress udpLocalAddress) {
     super(parent, HTTP_SERVER);
     Tags base;
     if (enabledLabels.contains(SERVER_NAME)) {
@@ -82,33 +88,52 @@ class VertxHttpServerMetrics extends AbstractMetrics implements HttpServerMetric
     httpResponseBytes = DistributionSummary.builder(names.getHttpResponseBytes())
       .description("Size of responses in bytes")
       .withRegistry(registry);
+    requestTags = meterCache();
+    responseMeters = meterCache(names.getHttpRequestsCount(), names.getHttpResponseTime(), names.getHttpResponseBytes());
+    activeRequests = meterCache(names.getHttpActiveRequests());
+    remoteGuard = cardinalityGuard(REMOTE);
+    routeTags = routeTags();
+    pathTags = pathTags(pathNormalizer);
+    registerTimerSampleRate();
   }
 
 
   @Override
   public RequestMetric requestBegin(SocketAddress remoteAddress, HttpRequest request) {
-    Tags tags = request.version() == HttpVersion.HTTP_3 ? udpLocal : tcpLocal;
+    Tag remote = null, path = null, method = null;
     if (enabledLabels.contains(REMOTE)) {
       String remoteName = remoteAddress.hostName();
       if (remoteName == null) {
         remoteName = "_";
       }
-      tags = tags.and(REMOTE.toString(), Labels.address(remoteAddress, remoteName));
+      remote = Tag.of(REMOTE.toString(), remoteGuard.apply(Labels.address(remoteAddress, remoteName)));
     }
     if (enabledLabels.contains(HTTP_PATH)) {
-      tags = tags.and(HTTP_PATH.toString(), HttpUtils.parsePath(request.uri()));
+      path = pathTags.get(request.uri());
     }
     if (enabledLabels.contains(HTTP_METHOD)) {
-      tags = tags.and(HTTP_METHOD.toString(), request.method().toString());
+      method = Labels.method(request.method());
     }
+    // merge all tags at once, and reuse the result for the same tuple
+    TagTuple tuple = new TagTuple(request.version() == HttpVersion.HTTP_3 ? udpLocal : tcpLocal, remote, path, method);
+    Tags tags;
     if (customTagsProvider != null) {
-      tags = tags.and(customTagsProvider.apply(request));
+      tags = tuple.toTags().and(customTagsProvider.apply(request));
+    } else {
+      tags = requestTags.get(tuple, TagTuple::toTags);
     }
     RequestMetric requestMetric = new RequestMetric(tags);
     requestMetric.requests.increment();
     return requestMetric;
   }
 
+  private LongAdder activeRequests(Tags tags) {
+    return longGaugeBuilder(names.getHttpActiveRequests(), LongAdder::doubleValue)
+      .description("Number of requests being processed")
+      .tags(tags)
+      .register(registry);
+  }
+
   @Override
   public void requestReset(RequestMetric requestMetric) {
     requestResetCount.withTags(requestMetric.tags).increment();
@@ -126,13 +151,9 @@ class VertxHttpServerMetrics extends AbstractMetrics implements HttpServerMetric
 
   @Override
   public RequestMetric responsePushed(SocketAddress remoteAddress, HttpMethod method, String uri, HttpResponse response) {
-    Tags tags = tcpLocal;
-    if (enabledLabels.contains(HTTP_PATH)) {
-      tags.and(HTTP_PATH.toString(), HttpUtils.parsePath(uri));
-    }
-    if (enabledLabels.contains(HTTP_METHOD)) {
-      tags.and(HTTP_METHOD.toString(), method.toString());
-    }
+    Tag path = enabledLabels.contains(HTTP_PATH) ? pathTags.get(uri) : null;
+    Tag methodTag = enabledLabels.contains(HTTP_METHOD) ? Labels.method(method) : null;
+    Tags tags = requestTags.get(new TagTuple(tcpLocal, null, path, methodTag), TagTuple::toTags);
     RequestMetric requestMetric = new RequestMetric(tags);
     requestMetric.requests.increment();
     return requestMetric;
@@ -140,16 +161,14 @@ class VertxHttpServerMetrics extends AbstractMetrics implements HttpServerMetric
 
   @Override
   public void responseEnd(RequestMetric requestMetric, HttpResponse response, long bytesWritten) {
-    Tags responseTags = requestMetric.tags;
-    if (enabledLabels.contains(HTTP_ROUTE)) {
-      responseTags = responseTags.and(HTTP_ROUTE.toString(), requestMetric.getRoute());
-    }
-    if (enabledLabels.contains(HTTP_CODE)) {
-      responseTags = responseTags.and(HTTP_CODE.toString(), String.valueOf(response.statusCode()));
+    Tag route = enabledLabels.contains(HTTP_ROUTE) ? requestMetric.route.tag() : null;
+    Tag code = enabledLabels.contains(HTTP_CODE) ? Labels.statusCode(response.statusCode()) : null;
+    ResponseMeters meters = responseMeters.get(new TagTuple(requestMetric.tags, route, code, null), ResponseMeters::new);
+    meters.requestsCount.increment();
+    if (requestMetric.sample != null) {
+      requestMetric.sample.stop(meters.responseTime);
     }
-    httpRequestsCount.withTags(responseTags).increment();
-    requestMetric.sample.stop(httpResponseTime.withTags(responseTags));
-    httpResponseBytes.withTags(responseTags).record(bytesWritten);
+    meters.responseBytes.record(bytesWritten);
     if (requestMetric.responseEnded()) {
       requestMetric.requests.decrement();
     }
@@ -163,7 +182,7 @@ class VertxHttpServerMetrics extends AbstractMetrics implements HttpServerMetric
       if (remoteName == null) {
         remoteName = "_";
       }
-      tags = tags.and(REMOTE.toString(), Labels.address(request.remoteAddress(), remoteName));
+      tags = tags.and(REMOTE.toString(), remoteGuard.apply(Labels.address(request.remoteAddress(), remoteName)));
     }
     LongAdder wsConnections = longGaugeBuilder(names.getHttpActiveWsConnections(), LongAdder::doubleValue)
       .description("Number of websockets currently opened")
@@ -183,6 +202,21 @@ class VertxHttpServerMetrics extends AbstractMetrics implements HttpServerMetric
     requestMetric.addRoute(route);
   }
 
+  // all the meters updated when a response ends, resolved at once for a given set of tags
+  class ResponseMeters {
+
+    final Counter requestsCount;
+    final Timer responseTime;
+    final DistributionSummary responseBytes;
+
+    ResponseMeters(TagTuple tuple) {
+      Tags tags = tuple.toTags();
+      requestsCount = httpRequestsCount.withTags(tags);
+      responseTime = httpResponseTime.withTags(tags);
+      responseBytes = httpResponseBytes.withTags(tags);
+    }
+  }
+
   class RequestMetric {
 
     final Tags tags;
@@ -190,60 +224,23 @@ class VertxHttpServerMetrics extends AbstractMetrics implements HttpServerMetric
     final LongAdder requests;
     final Sample sample;
 
-    // a string for a single route, a list of string for multiple
-    private Object routes;
-    // tracks length of resulting routes string
-    private int routesLength;
+    // the chain of routes the request went through so far
+    private RouteTags.Chain route;
     private boolean responseEnded;
     private boolean requestEnded;
     private boolean reset;
 
     RequestMetric(Tags tags) {
       this.tags = tags;
-      requests = longGaugeBuilder(names.getHttpActiveRequests(), LongAdder::doubleValue)
-        .description("Number of requests being processed")
-        .tags(tags)
-        .register(registry);
-      sample = Timer.start();
+      requests = activeRequests.get(tags, VertxHttpServerMetrics.this::activeRequests);
+      sample = sampledTimerStart();
+      route = routeTags.root();
     }
 
-    // we try to minimize allocations as far as possible. see https://github.com/vert-x3/vertx-dropwizard-metrics/pull/101
     private void addRoute(String route) {
-      if (route == null) {
-        return;
-      }
-      routesLength += route.length();
-      if (routes == null) {
-        routes = route;
-        return;
-      }
-      ++routesLength;
-      if (routes instanceof List) {
-        //noinspection unchecked
-        ((List<String>) routes).add(route);
-        return;
-      }
-      List<String> multipleRoutes = new LinkedList<>();
-      multipleRoutes.add((String) routes);
-      multipleRoutes.add(route);
-      routes = multipleRoutes;
-    }
-
-    private String getRoute() {
-      if (routes == null) {
-        return "";
-      }
-      if (routes instanceof String) {
-        return (String) routes;
-      }
-      StringBuilder concatenation = new StringBuilder(routesLength);
-      @SuppressWarnings("unchecked") Iterator<String> iterator = ((List<String>) routes).iterator();
-      concatenation.append(iterator.next());
-      while (iterator.hasNext()) {
-        concatenation.append('>').append(iterator.next());
+      if (route != null) {
+        this.route = this.route.next(route);
       }
-      routes = concatenation.toString();
-      return (String) routes;
     }
 
     void requestReset() {
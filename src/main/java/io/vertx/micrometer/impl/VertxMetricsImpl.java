@@ -16,6 +16,7 @@
 
 package io.vertx.micrometer.impl;
 
+import io.micrometer.core.instrument.Clock;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.binder.MeterBinder;
 import io.micrometer.core.instrument.binder.jvm.*;
@@ -41,7 +42,10 @@ import io.vertx.micrometer.MetricsDomain;
 import io.vertx.micrometer.MicrometerMetricsOptions;
 import io.vertx.micrometer.backends.BackendRegistries;
 import io.vertx.micrometer.backends.BackendRegistry;
+import io.vertx.micrometer.impl.meters.ConfinedCounters;
 import io.vertx.micrometer.impl.meters.LongGauges;
+import io.vertx.micrometer.impl.tags.CardinalityGuards;
+import io.vertx.micrometer.impl.tags.PathNormalizer;
 
 import java.util.*;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -63,9 +67,25 @@ public class VertxMetricsImpl extends AbstractMetrics implements VertxMetrics {
   private final List<MeterBinder> meterBinders;
   private final Function<HttpRequest, Iterable<Tag>> serverRequestTagsProvider;
   private final Function<HttpRequest, Iterable<Tag>> clientRequestTagsProvider;
+  private final PathNormalizer pathNormalizer;
+  private final CoarseClock coarseClock;
+  private final boolean poolQueueMaxEnabled;
 
-  public VertxMetricsImpl(MicrometerMetricsOptions options, BackendRegistry backendRegistry, LongGauges longGauges) {
-    super(backendRegistry.getMeterRegistry(), options.getMetricsNaming(), longGauges, EnumSet.copyOf(options.getLabels()));
+  public VertxMetricsImpl(MicrometerMetricsOptions options, BackendRegistry backendRegistry, LongGauges longGauges,
+                          ConfinedCounters confinedCounters) {
+    this(options, backendRegistry, longGauges, confinedCounters, options.getCoarseClockResolution() > 0 ?
+      new CoarseClock(options.getCoarseClockResolution(), options.getCoarseClockResolutionUnit()) : null);
+  }
+
+  private VertxMetricsImpl(MicrometerMetricsOptions options, BackendRegistry backendRegistry, LongGauges longGauges,
+                           ConfinedCounters confinedCounters, CoarseClock coarseClock) {
+    super(backendRegistry.getMeterRegistry(), options.getMetricsNaming(), longGauges, EnumSet.copyOf(options.getLabels()),
+      options.isMeterCacheEnabled(),
+      new CardinalityGuards(backendRegistry.getMeterRegistry(), options.getMetricsNaming(), options.getCardinalityLimits()),
+      options.getHttpTimerSamplingInterval(), coarseClock != null ? coarseClock : Clock.SYSTEM,
+      options.isConfinedCountersEnabled() ? confinedCounters : null,
+      Math.max(0, options.getNetMeterIdleTimeoutUnit().toNanos(options.getNetMeterIdleTimeout())));
+    this.coarseClock = coarseClock;
     this.backendRegistry = backendRegistry;
     registryName = options.getRegistryName();
     if (options.getDisabledMetricsCategories() != null) {
@@ -78,6 +98,8 @@ public class VertxMetricsImpl extends AbstractMetrics implements VertxMetrics {
     meterBinders = new CopyOnWriteArrayList<>();
     serverRequestTagsProvider = options.getServerRequestTagsProvider();
     clientRequestTagsProvider = options.getClientRequestTagsProvider();
+    pathNormalizer = options.isPathNormalizationEnabled() ? new PathNormalizer(options.getPathTemplates()) : null;
+    poolQueueMaxEnabled = options.isPoolQueueMaxEnabled();
   }
 
   public void init() {
@@ -112,6 +134,9 @@ public class VertxMetricsImpl extends AbstractMetrics implements VertxMetrics {
 
   @Override
   public void vertxCreated(Vertx vertx) {
+    if (coarseClock != null) {
+      coarseClock.start(vertx);
+    }
     if (bindNettyMetrics) {
       VertxInternal vi = (VertxInternal) vertx;
       addMeterBinder(new NettyEventExecutorMetrics(vi.acceptorEventLoopGroup()));
@@ -137,7 +162,7 @@ public class VertxMetricsImpl extends AbstractMetrics implements VertxMetrics {
     if (obsCfg != null) {
       metricsName = obsCfg.getMetricsName();
     }
-    return new VertxHttpServerMetrics(this, serverRequestTagsProvider, metricsName, tcpLocalAddress, udpLocalAddress);
+    return new VertxHttpServerMetrics(this, serverRequestTagsProvider, pathNormalizer, metricsName, tcpLocalAddress, udpLocalAddress);
   }
 
   @Override
@@ -157,7 +182,7 @@ public class VertxMetricsImpl extends AbstractMetrics implements VertxMetrics {
     if (obsCfg != null) {
       metricsName = obsCfg.getMetricsName();
     }
-    return new VertxHttpClientMetrics(this, metricsName, clientRequestTagsProvider, localhost);
+    return new VertxHttpClientMetrics(this, metricsName, clientRequestTagsProvider, pathNormalizer, localhost);
   }
 
   @Override
@@ -203,7 +228,7 @@ public class VertxMetricsImpl extends AbstractMetrics implements VertxMetrics {
     if (disabledCategories.contains(NAMED_POOLS.toCategory())) {
       return null;
     }
-    return new VertxPoolMetrics(this, poolType, poolName, maxPoolSize);
+    return new VertxPoolMetrics(this, poolType, poolName, maxPoolSize, poolQueueMaxEnabled);
   }
 
   @Override
@@ -230,6 +255,9 @@ public class VertxMetricsImpl extends AbstractMetrics implements VertxMetrics {
         }
       }
     }
+    if (coarseClock != null) {
+      coarseClock.stop();
+    }
     BackendRegistries.stop(registryName);
   }
 }
@@ -22,21 +22,21 @@ import io.micrometer.core.instrument.Tags;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.metrics.TransportMetrics;
 import io.vertx.micrometer.MetricsDomain;
-import io.vertx.micrometer.impl.VertxNetClientMetrics.NetClientSocketMetric;
+import io.vertx.micrometer.impl.tags.CardinalityGuard;
 import io.vertx.micrometer.impl.tags.Labels;
 
-import java.util.concurrent.atomic.LongAdder;
-
 import static io.vertx.micrometer.Label.*;
 import static io.vertx.micrometer.MetricsDomain.NET_CLIENT;
 
 /**
  * @author Joel Takvorian
  */
-class VertxNetClientMetrics extends AbstractMetrics implements TransportMetrics<NetClientSocketMetric> {
+class VertxNetClientMetrics extends AbstractMetrics implements TransportMetrics<SocketMetric> {
 
   final Tags local;
   private final MeterProvider<Counter> netErrorCount;
+  private final CardinalityGuard remoteGuard;
+  private final SocketMeters socketMeters;
 
   VertxNetClientMetrics(AbstractMetrics parent, String metricsName, MetricsDomain domain, String localAddress) {
     super(parent, domain);
@@ -54,65 +54,46 @@ class VertxNetClientMetrics extends AbstractMetrics implements TransportMetrics<
     netErrorCount = Counter.builder(names.getNetErrorCount())
       .description("Number of errors")
       .withRegistry(registry);
+    remoteGuard = cardinalityGuard(REMOTE);
+    // In the HTTP domain, remote addresses are also carried by request meters, which are never removed
+    CardinalityGuard evictedRemotes = domain == NET_CLIENT ? remoteGuard : CardinalityGuard.NONE;
+    socketMeters = new SocketMeters(this, local, evictedRemotes,
+      "Number of connections to the remote host currently opened", "Number of bytes received from the remote host",
+      "Number of bytes sent to the remote host");
   }
 
   @Override
-  public NetClientSocketMetric connected(SocketAddress remoteAddress, String remoteName) {
+  public SocketMetric connected(SocketAddress remoteAddress, String remoteName) {
     Tags tags = local;
+    String remote = null;
     if (enabledLabels.contains(REMOTE)) {
-      tags = tags.and(REMOTE.toString(), Labels.address(remoteAddress, remoteName));
+      remote = remoteGuard.apply(Labels.address(remoteAddress, remoteName));
+      tags = tags.and(REMOTE.toString(), remote);
     }
-    NetClientSocketMetric socketMetric = new NetClientSocketMetric(tags);
-    socketMetric.connections.increment();
-    return socketMetric;
+    return new SocketMetric(socketMeters, socketMeters.acquire(tags, remote));
   }
 
   @Override
-  public void disconnected(NetClientSocketMetric socketMetric, SocketAddress remoteAddress) {
-    socketMetric.connections.decrement();
+  public void disconnected(SocketMetric socketMetric, SocketAddress remoteAddress) {
+    socketMetric.close();
   }
 
   @Override
-  public void bytesRead(NetClientSocketMetric socketMetric, SocketAddress remoteAddress, long numberOfBytes) {
-    socketMetric.bytesReceived.increment(numberOfBytes);
+  public void bytesRead(SocketMetric socketMetric, SocketAddress remoteAddress, long numberOfBytes) {
+    socketMetric.bytesReceived(numberOfBytes);
   }
 
   @Override
-  public void bytesWritten(NetClientSocketMetric socketMetric, SocketAddress remoteAddress, long numberOfBytes) {
-    socketMetric.bytesSent.increment(numberOfBytes);
+  public void bytesWritten(SocketMetric socketMetric, SocketAddress remoteAddress, long numberOfBytes) {
+    socketMetric.bytesSent(numberOfBytes);
   }
 
   @Override
-  public void exceptionOccurred(NetClientSocketMetric socketMetric, SocketAddress remoteAddress, Throwable t) {
+  public void exceptionOccurred(SocketMetric socketMetric, SocketAddress remoteAddress, Throwable t) {
     Tags tags = socketMetric.tags;
     if (enabledLabels.contains(CLASS_NAME)) {
-      tags = tags.and(CLASS_NAME.toString(), t.getClass().getSimpleName());
+      tags = tags.and(Labels.className(t));
     }
     netErrorCount.withTags(tags).increment();
   }
-
-  class NetClientSocketMetric {
-
-    final Tags tags;
-
-    final LongAdder connections;
-    final Counter bytesReceived;
-    final Counter bytesSent;
-
-    NetClientSocketMetric(Tags tags) {
-      this.tags = tags;
-      connections = longGaugeBuilder(names.getNetActiveConnections(), LongAdder::doubleValue)
-        .description("Number of connections to the remote host currently opened")
-        .tags(tags)
-        .register(registry);
-      bytesReceived = Counter.builder(names.getNetBytesRead())
-        .description("Number of bytes received from the remote host")
-        .tags(tags)
-        .register(registry);
-      bytesSent = Counter.builder(names.getNetBytesWritten())
-        .description("Number of bytes sent to the remote host")
-        .tags(tags)
-        .register(registry);
-    }
-  }
 }
@@ -21,21 +21,21 @@ import io.micrometer.core.instrument.Tags;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.metrics.TransportMetrics;
 import io.vertx.micrometer.MetricsDomain;
-import io.vertx.micrometer.impl.VertxNetServerMetrics.NetServerSocketMetric;
+import io.vertx.micrometer.impl.tags.CardinalityGuard;
 import io.vertx.micrometer.impl.tags.Labels;
 
-import java.util.concurrent.atomic.LongAdder;
-
 import static io.vertx.micrometer.Label.*;
 import static io.vertx.micrometer.MetricsDomain.NET_SERVER;
 
 /**
  * @author Joel Takvorian
  */
-class VertxNetServerMetrics extends AbstractMetrics implements TransportMetrics<NetServerSocketMetric> {
+class VertxNetServerMetrics extends AbstractMetrics implements TransportMetrics<SocketMetric> {
 
   final Tags local;
   private final Meter.MeterProvider<Counter> netErrorCount;
+  private final CardinalityGuard remoteGuard;
+  private final SocketMeters socketMeters;
 
   VertxNetServerMetrics(AbstractMetrics parent, SocketAddress localAddress) {
     this(parent, NET_SERVER, localAddress);
@@ -51,65 +51,45 @@ class VertxNetServerMetrics extends AbstractMetrics implements TransportMetrics<
     netErrorCount = Counter.builder(names.getNetErrorCount())
       .description("Number of errors")
       .withRegistry(registry);
+    remoteGuard = cardinalityGuard(REMOTE);
+    // In the HTTP domain, remote addresses are also carried by request meters, which are never removed
+    CardinalityGuard evictedRemotes = domain == NET_SERVER ? remoteGuard : CardinalityGuard.NONE;
+    socketMeters = new SocketMeters(this, local, evictedRemotes, "Number of opened connections to the server",
+      "Number of bytes received by the server", "Number of bytes sent by the server");
   }
 
   @Override
-  public NetServerSocketMetric connected(SocketAddress remoteAddress, String remoteName) {
+  public SocketMetric connected(SocketAddress remoteAddress, String remoteName) {
     Tags tags = local;
+    String remote = null;
     if (enabledLabels.contains(REMOTE)) {
-      tags = tags.and(REMOTE.toString(), Labels.address(remoteAddress, remoteName));
+      remote = remoteGuard.apply(Labels.address(remoteAddress, remoteName));
+      tags = tags.and(REMOTE.toString(), remote);
     }
-    NetServerSocketMetric socketMetric = new NetServerSocketMetric(tags);
-    socketMetric.connections.increment();
-    return socketMetric;
+    return new SocketMetric(socketMeters, socketMeters.acquire(tags, remote));
   }
 
   @Override
-  public void disconnected(NetServerSocketMetric socketMetric, SocketAddress remoteAddress) {
-    socketMetric.connections.decrement();
+  public void disconnected(SocketMetric socketMetric, SocketAddress remoteAddress) {
+    socketMetric.close();
   }
 
   @Override
-  public void bytesRead(NetServerSocketMetric socketMetric, SocketAddress remoteAddress, long numberOfBytes) {
-    socketMetric.bytesReceived.increment(numberOfBytes);
+  public void bytesRead(SocketMetric socketMetric, SocketAddress remoteAddress, long numberOfBytes) {
+    socketMetric.bytesReceived(numberOfBytes);
   }
 
   @Override
-  public void bytesWritten(NetServerSocketMetric socketMetric, SocketAddress remoteAddress, long numberOfBytes) {
-    socketMetric.bytesSent.increment(numberOfBytes);
+  public void bytesWritten(SocketMetric socketMetric, SocketAddress remoteAddress, long numberOfBytes) {
+    socketMetric.bytesSent(numberOfBytes);
   }
 
   @Override
-  public void exceptionOccurred(NetServerSocketMetric socketMetric, SocketAddress remoteAddress, Throwable t) {
+  public void exceptionOccurred(SocketMetric socketMetric, SocketAddress remoteAddress, Throwable t) {
     Tags tags = socketMetric.tags;
     if (enabledLabels.contains(CLASS_NAME)) {
-      tags = tags.and(CLASS_NAME.toString(), t.getClass().getSimpleName());
+      tags = tags.and(Labels.className(t));
     }
     netErrorCount.withTags(tags).increment();
   }
-
-  class NetServerSocketMetric {
-
-    final Tags tags;
-
-    final LongAdder connections;
-    final Counter bytesReceived;
-    final Counter bytesSent;
-
-    NetServerSocketMetric(Tags tags) {
-      this.tags = tags;
-      connections = longGaugeBuilder(names.getNetActiveConnections(), LongAdder::doubleValue)
-        .description("Number of opened connections to the server")
-        .tags(tags)
-        .register(registry);
-      bytesReceived = Counter.builder(names.getNetBytesRead())
-        .description("Number of bytes received by the server")
-        .tags(tags)
-        .register(registry);
-      bytesSent = Counter.builder(names.getNetBytesWritten())
-        .description("Number of bytes sent by the server")
-        .tags(tags)
-        .register(registry);
-    }
-  }
 }
@@ -20,6 +20,7 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.Timer.Sample;
+import io.micrometer.core.instrument.distribution.TimeWindowMax;
 import io.vertx.core.spi.metrics.PoolMetrics;
 
 import java.util.concurrent.atomic.LongAdder;
@@ -35,12 +36,12 @@ class VertxPoolMetrics extends AbstractMetrics implements PoolMetrics<Sample, Sa
 
   final Timer queueDelay;
   final LongAdder queueSize;
+  final TimeWindowMax queueMax;
   final Timer usage;
   final LongAdder inUse;
-  final LongAdder usageRatio;
   final Counter completed;
 
-  VertxPoolMetrics(AbstractMetrics parent, String poolType, String poolName, int maxPoolSize) {
+  VertxPoolMetrics(AbstractMetrics parent, String poolType, String poolName, int maxPoolSize, boolean queueMaxEnabled) {
     super(parent, NAMED_POOLS);
     Tags tags = Tags.empty();
     if (enabledLabels.contains(POOL_TYPE) || "http".equals(poolType)) {
@@ -57,6 +58,12 @@ class VertxPoolMetrics extends AbstractMetrics implements PoolMetrics<Sample, Sa
       .description("Number of pending elements in queue")
       .tags(tags)
       .register(registry);
+    if (queueMaxEnabled) {
+      queueMax = maxGauge(names.getPoolQueueMax(), "Maximum number of pending elements in queue over the last 2 minutes",
+        tags, queueSize);
+    } else {
+      queueMax = null;
+    }
     usage = Timer.builder(names.getPoolUsage())
       .description("Time using a resource")
       .tags(tags)
@@ -65,10 +72,9 @@ class VertxPoolMetrics extends AbstractMetrics implements PoolMetrics<Sample, Sa
       .description("Number of resources used")
       .tags(tags)
       .register(registry);
-    usageRatio = longGaugeBuilder(names.getPoolUsageRatio(), value -> maxPoolSize > 0 ? value.doubleValue() / maxPoolSize : Double.NaN)
-      .description("Pool usage ratio, only present if maximum pool size could be determined")
-      .tags(tags)
-      .register(registry);
+    // The ratio is derived from the resources in use, rather than maintained by a second adder
+    derivedGauge(names.getPoolUsageRatio(), "Pool usage ratio, only present if maximum pool size could be determined",
+      tags, inUse, used -> maxPoolSize > 0 ? used.doubleValue() / maxPoolSize : Double.NaN);
     completed = Counter.builder(names.getPoolCompleted())
       .description("Number of elements done with the resource")
       .tags(tags)
@@ -78,7 +84,10 @@ class VertxPoolMetrics extends AbstractMetrics implements PoolMetrics<Sample, Sa
   @Override
   public Sample enqueue() {
     queueSize.increment();
-    return Timer.start();
+    if (queueMax != null) {
+      queueMax.record(queueSize.sum());
+    }
+    return timerStart();
   }
 
   @Override
@@ -90,14 +99,12 @@ class VertxPoolMetrics extends AbstractMetrics implements PoolMetrics<Sample, Sa
   @Override
   public Sample begin() {
     inUse.increment();
-    usageRatio.increment();
-    return Timer.start();
+    return timerStart();
   }
 
   @Override
   public void end(Sample timer) {
     inUse.decrement();
-    usageRatio.decrement();
     timer.stop(usage);
     completed.increment();
   }
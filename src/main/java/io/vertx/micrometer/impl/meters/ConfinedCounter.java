@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl.meters;
+
+import io.micrometer.core.instrument.Meter;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A counter made of {@link Cell cells}, each of them incremented by a single thread.
+ * <p>
+ * Incrementing a cell is a plain addition followed by an opaque write: no atomic instruction and no contention with
+ * other threads. The value of the counter is the sum of the open cells and of the cells closed so far, computed when
+ * the meter is read.
+ */
+public final class ConfinedCounter {
+
+  private final Meter.Id id;
+  private final Set<Cell> open = ConcurrentHashMap.newKeySet();
+  private final LongAdder closed = new LongAdder();
+  private long reported;
+
+  ConfinedCounter(Meter.Id id) {
+    this.id = id;
+  }
+
+  /**
+   * @return the id of the function counter
+   */
+  public Meter.Id id() {
+    return id;
+  }
+
+  /**
+   * @return a new cell, to be incremented by a single thread and closed when it is no longer used
+   */
+  public Cell open() {
+    Cell cell = new Cell(this);
+    open.add(cell);
+    return cell;
+  }
+
+  private void close(Cell cell) {
+    if (open.remove(cell)) {
+      closed.add(cell.get());
+    }
+  }
+
+  /**
+   * @return the value of the counter
+   */
+  public synchronized double value() {
+    // Read closed cells first: a cell closed concurrently is then missed rather than counted twice
+    long total = closed.sum();
+    for (Cell cell : open) {
+      total += cell.get();
+    }
+    // Hide a missed cell until the next read, counters must not decrease
+    if (total > reported) {
+      reported = total;
+    }
+    return reported;
+  }
+
+  public static final class Cell {
+
+    private static final VarHandle VALUE;
+
+    static {
+      try {
+        VALUE = MethodHandles.lookup().findVarHandle(Cell.class, "value", long.class);
+      } catch (ReflectiveOperationException e) {
+        throw new ExceptionInInitializerError(e);
+      }
+    }
+
+    private final ConfinedCounter counter;
+    private long value;
+
+    private Cell(ConfinedCounter counter) {
+      this.counter = counter;
+    }
+
+    /**
+     * Must be called by the thread owning the cell.
+     */
+    public void increment(long amount) {
+      VALUE.setOpaque(this, value + amount);
+    }
+
+    /**
+     * Merge the value of this cell into the counter and forget the cell.
+     */
+    public void close() {
+      counter.close(this);
+    }
+
+    long get() {
+      return (long) VALUE.getOpaque(this);
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl.meters;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Registers {@link ConfinedCounter} instances as function counters, one per meter id.
+ */
+public class ConfinedCounters {
+
+  private final GaugeStore store;
+
+  public ConfinedCounters(GaugeStore store) {
+    this.store = store;
+  }
+
+  public ConfinedCounter register(MeterRegistry registry, String name, String description, Iterable<Tag> tags) {
+    AtomicReference<ConfinedCounter> slot = new AtomicReference<>();
+    // Function counters hold a weak reference to their state object, the store is referenced by the registry
+    FunctionCounter meter = FunctionCounter.builder(name, store, s -> {
+        ConfinedCounter counter = slot.get();
+        return counter != null ? counter.value() : 0;
+      })
+      .description(description)
+      .tags(tags)
+      .register(registry);
+    ConfinedCounter counter = store.slot(meter, ConfinedCounter::new);
+    slot.set(counter);
+    return counter;
+  }
+}
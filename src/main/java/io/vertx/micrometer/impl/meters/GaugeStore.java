@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl.meters;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.noop.NoopMeter;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * The state of the gauges and function counters of a registry, e.g. the {@link java.util.concurrent.atomic.LongAdder}
+ * of a long gauge.
+ * <p>
+ * Meters registered several times with the same id share a slot, created at the first registration. Registered meters
+ * then read their slot directly rather than looking it up by id. Slots are looked up by the identity of the meter
+ * returned by the registry, which is the same for all the registrations of an id, so that the tags of the id are not
+ * hashed again. Slots are removed with their meter from the registry.
+ * <p>
+ * The store also counts the meters removed from the registry per meter name, so that caches of meters can tell when
+ * they may hold removed meters, without being cleared by the removal of unrelated meters.
+ * <p>
+ * Stores are kept per registry, weakly, without a global lock.
+ */
+public final class GaugeStore {
+
+  private static final ConcurrentMap<RegistryKey, GaugeStore> stores = new ConcurrentHashMap<>();
+  private static final ReferenceQueue<MeterRegistry> collected = new ReferenceQueue<>();
+
+  /**
+   * @return the store of {@code registry}
+   */
+  public static GaugeStore of(MeterRegistry registry) {
+    expunge();
+    GaugeStore store = stores.get(new RegistryKey(registry, null));
+    if (store == null) {
+      GaugeStore created = new GaugeStore();
+      store = stores.putIfAbsent(new RegistryKey(registry, collected), created);
+      if (store == null) {
+        // The listener must not reference the registry, or the store would never be collected
+        registry.config().onMeterRemoved(created::remove);
+        store = created;
+      }
+    }
+    return store;
+  }
+
+  private static void expunge() {
+    Reference<? extends MeterRegistry> ref;
+    while ((ref = collected.poll()) != null) {
+      stores.remove(ref);
+    }
+  }
+
+  private final ConcurrentMap<MeterKey, Object> slots = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, AtomicInteger> removals = new ConcurrentHashMap<>();
+
+  /**
+   * Create a store that is not bound to a registry, slots are then never removed.
+   */
+  public GaugeStore() {
+  }
+
+  /**
+   * @param meter the meter returned by the registry
+   * @return the slot of {@code meter}, created with {@code factory} if absent
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T slot(Meter meter, Function<Meter.Id, T> factory) {
+    if (meter instanceof NoopMeter) {
+      // Denied meters are not kept by the registry, each registration returns a new one
+      return factory.apply(meter.getId());
+    }
+    MeterKey key = new MeterKey(meter);
+    Object slot = slots.get(key);
+    if (slot == null) {
+      slot = slots.computeIfAbsent(key, k -> factory.apply(meter.getId()));
+    }
+    return (T) slot;
+  }
+
+  /**
+   * Remove the slot of {@code meter}.
+   */
+  public void remove(Meter meter) {
+    slots.remove(new MeterKey(meter));
+    AtomicInteger count = removals.get(meter.getId().getName());
+    if (count != null) {
+      count.incrementAndGet();
+    }
+  }
+
+  /**
+   * @return a count of the removed meters named {@code names}, which changes whenever one of them is removed
+   */
+  public IntSupplier removals(String... names) {
+    AtomicInteger[] counts = new AtomicInteger[names.length];
+    for (int i = 0; i < names.length; i++) {
+      counts[i] = removals.computeIfAbsent(names[i], name -> new AtomicInteger());
+    }
+    return () -> {
+      int sum = 0;
+      for (AtomicInteger count : counts) {
+        sum += count.get();
+      }
+      return sum;
+    };
+  }
+
+  /**
+   * @return the number of slots
+   */
+  public int size() {
+    return slots.size();
+  }
+
+  private static final class MeterKey {
+
+    private final Meter meter;
+
+    MeterKey(Meter meter) {
+      this.meter = meter;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof MeterKey && ((MeterKey) o).meter == meter;
+    }
+
+    @Override
+    public int hashCode() {
+      return System.identityHashCode(meter);
+    }
+  }
+
+  private static final class RegistryKey extends WeakReference<MeterRegistry> {
+
+    private final int hash;
+
+    RegistryKey(MeterRegistry registry, ReferenceQueue<MeterRegistry> queue) {
+      super(registry, queue);
+      hash = System.identityHashCode(registry);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof RegistryKey)) {
+        return false;
+      }
+      MeterRegistry registry = get();
+      return registry != null && registry == ((RegistryKey) o).get();
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
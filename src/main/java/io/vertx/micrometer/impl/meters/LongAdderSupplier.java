@@ -17,36 +17,28 @@
 
 package io.vertx.micrometer.impl.meters;
 
-import io.micrometer.core.instrument.Meter;
-
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
 
 class LongAdderSupplier implements Supplier<Number> {
 
-  private final ConcurrentMap<Meter.Id, LongAdder> longGauges;
   private final ToDoubleFunction<LongAdder> func;
-  private volatile Meter.Id id;
+  private volatile LongAdder longAdder;
 
-  LongAdderSupplier(ConcurrentMap<Meter.Id, LongAdder> longGauges, ToDoubleFunction<LongAdder> func) {
-    this.longGauges = longGauges;
+  LongAdderSupplier(ToDoubleFunction<LongAdder> func) {
     this.func = func;
   }
 
-  void setId(Meter.Id id) {
-    this.id = id;
+  void setLongAdder(LongAdder longAdder) {
+    this.longAdder = longAdder;
   }
 
   @Override
   public Number get() {
-    Meter.Id key = id;
-    if (key != null) {
-      LongAdder longAdder = longGauges.get(key);
-      if (longAdder != null) {
-        return func.applyAsDouble(longAdder);
-      }
+    LongAdder value = longAdder;
+    if (value != null) {
+      return func.applyAsDouble(value);
     }
     return null;
   }
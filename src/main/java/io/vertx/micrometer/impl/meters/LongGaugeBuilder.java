@@ -22,7 +22,6 @@ import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
@@ -31,12 +30,13 @@ public class LongGaugeBuilder {
 
   private final LongAdderSupplier supplier;
   private final Gauge.Builder<Supplier<Number>> builder;
-  private final ConcurrentMap<Meter.Id, LongAdder> longGauges;
+  private final GaugeStore store;
+  private Meter.Id meterId;
 
-  LongGaugeBuilder(String name, ConcurrentMap<Meter.Id, LongAdder> longGauges, ToDoubleFunction<LongAdder> func) {
-    this.supplier = new LongAdderSupplier(longGauges, func);
+  LongGaugeBuilder(String name, GaugeStore store, ToDoubleFunction<LongAdder> func) {
+    this.supplier = new LongAdderSupplier(func);
     this.builder = Gauge.builder(name, supplier);
-    this.longGauges = longGauges;
+    this.store = store;
   }
 
   public LongGaugeBuilder description(String description) {
@@ -50,8 +50,17 @@ public class LongGaugeBuilder {
   }
 
   public LongAdder register(MeterRegistry registry) {
-    Meter.Id meterId = builder.register(registry).getId();
-    supplier.setId(meterId);
-    return longGauges.computeIfAbsent(meterId, id -> new LongAdder());
+    Gauge gauge = builder.register(registry);
+    meterId = gauge.getId();
+    LongAdder longAdder = store.slot(gauge, id -> new LongAdder());
+    supplier.setLongAdder(longAdder);
+    return longAdder;
+  }
+
+  /**
+   * @return the id of the gauge, once registered
+   */
+  public Meter.Id id() {
+    return meterId;
   }
 }
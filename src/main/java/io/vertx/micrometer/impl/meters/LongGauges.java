@@ -17,21 +17,83 @@
 
 package io.vertx.micrometer.impl.meters;
 
-import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.TimeWindowMax;
 
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.ToDoubleFunction;
 
+/**
+ * Gauges backed by a {@link LongAdder}, shared by the gauges registered with the same id.
+ * <p>
+ * An adder costs a single {@code long} field as long as it is updated by one thread at a time, e.g. an event loop.
+ * Striped cells are allocated only when concurrent updates make a CAS fail.
+ */
 public class LongGauges {
 
-  private final ConcurrentMap<Meter.Id, LongAdder> longGauges;
+  private final GaugeStore store;
+
+  public LongGauges(GaugeStore store) {
+    this.store = store;
+  }
 
-  public LongGauges(ConcurrentMap<Meter.Id, LongAdder> longGauges) {
-    this.longGauges = longGauges;
+  public GaugeStore store() {
+    return store;
   }
 
   public LongGaugeBuilder builder(String name, ToDoubleFunction<LongAdder> func) {
-    return new LongGaugeBuilder(name, longGauges, func);
+    return new LongGaugeBuilder(name, store, func);
+  }
+
+  /**
+   * Register a gauge publishing the maximum value recorded over a decaying window, and at least the current value.
+   * <p>
+   * Like the maximum of timers, the window is {@link DistributionStatisticConfig#DEFAULT 2 minutes} long, rotated in 3
+   * steps. Reading the gauge does not reset it, so it can be read by any number of registries or scrapers.
+   *
+   * @param current the current value, e.g. the adder of another gauge
+   * @return the decaying maximum, shared by the gauges registered with the same id
+   */
+  public TimeWindowMax registerMax(MeterRegistry registry, String name, String description, Iterable<Tag> tags,
+                                   LongAdder current) {
+    AtomicReference<TimeWindowMax> slot = new AtomicReference<>();
+    Gauge gauge = Gauge.builder(name, () -> {
+        TimeWindowMax max = slot.get();
+        return max != null ? Math.max(max.poll(), current.sum()) : null;
+      })
+      .description(description)
+      .tags(tags)
+      .register(registry);
+    TimeWindowMax max = store.slot(gauge, id -> new TimeWindowMax(registry.config().clock(), DistributionStatisticConfig.DEFAULT));
+    slot.set(max);
+    return max;
+  }
+
+  /**
+   * Register a gauge publishing a function of the adder of another gauge, e.g. the ratio of its value to a maximum.
+   * <p>
+   * The gauge reads the adder of the latest registration, so that it follows the other gauge when it is removed and
+   * registered again with a new adder.
+   *
+   * @param source the adder of the other gauge
+   */
+  public void registerDerived(MeterRegistry registry, String name, String description, Iterable<Tag> tags,
+                              LongAdder source, ToDoubleFunction<LongAdder> func) {
+    AtomicReference<AtomicReference<LongAdder>> slot = new AtomicReference<>();
+    Gauge gauge = Gauge.builder(name, () -> {
+        AtomicReference<LongAdder> current = slot.get();
+        LongAdder adder = current != null ? current.get() : null;
+        return adder != null ? func.applyAsDouble(adder) : null;
+      })
+      .description(description)
+      .tags(tags)
+      .register(registry);
+    AtomicReference<LongAdder> current = store.slot(gauge, id -> new AtomicReference<>());
+    current.set(source);
+    slot.set(current);
   }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl.tags;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.micrometer.CardinalityLimit;
+import io.vertx.micrometer.Label;
+import io.vertx.micrometer.MetricsDomain;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limits the number of distinct values of a label, folding values past the limit into
+ * {@link CardinalityLimit#OVERFLOW_VALUE}.
+ * <p>
+ * Known values are looked up in a concurrent map, so the cost on the hot path is a hash lookup. New values reserve a
+ * slot before being added, so the limit is never exceeded, even under contention.
+ * <p>
+ * Meters which may be removed from the registry {@link #retain retain} the value they carry, and {@link #release release}
+ * it when they are removed. A value retained by meters is forgotten when the last of them is removed, making room for a
+ * new value. A value released while a meter carrying it is being created is not retained by this meter: it is admitted
+ * again on its next use.
+ */
+public final class CardinalityGuard {
+
+  /**
+   * A guard letting all values through.
+   */
+  public static final CardinalityGuard NONE = new CardinalityGuard();
+
+  private final MeterRegistry registry;
+  private final String foldedName;
+  private final MetricsDomain domain;
+  private final Label label;
+  private final int maxValues;
+  private final ConcurrentMap<String, Integer> values;
+  private final AtomicInteger size;
+  private volatile Counter folded;
+
+  private CardinalityGuard() {
+    registry = null;
+    foldedName = null;
+    domain = null;
+    label = null;
+    maxValues = Integer.MAX_VALUE;
+    values = null;
+    size = null;
+  }
+
+  /**
+   * @param foldedName the name of the counter of folded values
+   */
+  public CardinalityGuard(MeterRegistry registry, String foldedName, MetricsDomain domain, Label label, int maxValues) {
+    this.registry = registry;
+    this.foldedName = foldedName;
+    this.domain = domain;
+    this.label = label;
+    this.maxValues = maxValues;
+    this.values = new ConcurrentHashMap<>();
+    this.size = new AtomicInteger();
+  }
+
+  /**
+   * @return {@code value} if it is known or if the limit is not reached yet, {@link CardinalityLimit#OVERFLOW_VALUE} otherwise
+   */
+  public String apply(String value) {
+    if (admit(value)) {
+      return value;
+    }
+    fold();
+    return CardinalityLimit.OVERFLOW_VALUE;
+  }
+
+  /**
+   * @return {@code true} if {@code value} is known or if the limit is not reached yet, {@code false} if it must be folded
+   */
+  public boolean admit(String value) {
+    if (values == null || values.containsKey(value)) {
+      return true;
+    }
+    int n;
+    do {
+      n = size.get();
+      if (n >= maxValues) {
+        // The value may have been added concurrently
+        return values.containsKey(value);
+      }
+    } while (!size.compareAndSet(n, n + 1));
+    if (values.putIfAbsent(value, 0) != null) {
+      // Added concurrently, give the slot back
+      size.decrementAndGet();
+    }
+    return true;
+  }
+
+  /**
+   * Retain {@code value} for a meter carrying it, until the meter is removed from the registry.
+   */
+  public void retain(String value) {
+    if (values != null) {
+      values.computeIfPresent(value, (key, refs) -> refs + 1);
+    }
+  }
+
+  /**
+   * Release {@code value} after a meter {@link #retain retaining} it was removed from the registry.
+   */
+  public void release(String value) {
+    if (values == null) {
+      return;
+    }
+    for (Integer refs; (refs = values.get(value)) != null; ) {
+      if (refs > 1) {
+        if (values.replace(value, refs, refs - 1)) {
+          return;
+        }
+      } else if (values.remove(value, refs)) {
+        size.decrementAndGet();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Count a value folded into {@link CardinalityLimit#OVERFLOW_VALUE}.
+   */
+  public void fold() {
+    folded().increment();
+  }
+
+  // Registered on first use, not to publish a counter for every domain of a domain-less limit
+  private Counter folded() {
+    Counter counter = folded;
+    if (counter == null) {
+      folded = counter = Counter.builder(foldedName)
+        .description("Number of label values folded into the overflow value")
+        .tags("domain", domain.toCategory(), "label", label.toString())
+        .register(registry);
+    }
+    return counter;
+  }
+}
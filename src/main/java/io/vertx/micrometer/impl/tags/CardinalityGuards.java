@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl.tags;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.micrometer.CardinalityLimit;
+import io.vertx.micrometer.Label;
+import io.vertx.micrometer.MetricsDomain;
+import io.vertx.micrometer.MetricsNaming;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@link CardinalityGuard} of each domain and label, shared by all the metrics objects of a Vert.x instance.
+ */
+public final class CardinalityGuards {
+
+  private final Map<MetricsDomain, Map<Label, CardinalityGuard>> guards;
+
+  public CardinalityGuards(MeterRegistry registry, MetricsNaming names, List<CardinalityLimit> limits) {
+    guards = new EnumMap<>(MetricsDomain.class);
+    String foldedName = "vertx." + names.getCardinalityFolded();
+    for (CardinalityLimit limit : limits) {
+      if (limit.getLabel() == null) {
+        continue;
+      }
+      MetricsDomain[] domains = limit.getDomain() != null ? new MetricsDomain[]{limit.getDomain()} : MetricsDomain.values();
+      for (MetricsDomain domain : domains) {
+        guards.computeIfAbsent(domain, d -> new EnumMap<>(Label.class))
+          .put(limit.getLabel(), new CardinalityGuard(registry, foldedName, domain, limit.getLabel(), limit.getMaxValues()));
+      }
+    }
+  }
+
+  /**
+   * @return the guard of the {@code label} in the {@code domain}, {@link CardinalityGuard#NONE} if there is no limit
+   */
+  public CardinalityGuard get(MetricsDomain domain, Label label) {
+    if (domain == null) {
+      return CardinalityGuard.NONE;
+    }
+    Map<Label, CardinalityGuard> byLabel = guards.get(domain);
+    CardinalityGuard guard = byLabel != null ? byLabel.get(label) : null;
+    return guard != null ? guard : CardinalityGuard.NONE;
+  }
+}
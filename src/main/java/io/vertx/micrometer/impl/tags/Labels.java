@@ -17,9 +17,13 @@
 package io.vertx.micrometer.impl.tags;
 
 import io.micrometer.core.instrument.Tag;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.micrometer.Label;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * @author Joel Takvorian
  */
@@ -28,6 +32,26 @@ public final class Labels {
   private static final Tag LOCAL = Tag.of(Label.EB_SIDE.toString(), "local");
   private static final Tag REMOTE = Tag.of(Label.EB_SIDE.toString(), "remote");
 
+  private static final int MIN_STATUS_CODE = 100;
+  private static final int MAX_STATUS_CODE = 599;
+  private static final Tag[] STATUS_CODES = new Tag[MAX_STATUS_CODE - MIN_STATUS_CODE + 1];
+  private static final Map<HttpMethod, Tag> METHODS = new HashMap<>();
+  private static final ClassValue<Tag> CLASS_NAMES = new ClassValue<>() {
+    @Override
+    protected Tag computeValue(Class<?> type) {
+      return Tag.of(Label.CLASS_NAME.toString(), type.getSimpleName());
+    }
+  };
+
+  static {
+    for (int i = 0; i < STATUS_CODES.length; i++) {
+      STATUS_CODES[i] = Tag.of(Label.HTTP_CODE.toString(), String.valueOf(MIN_STATUS_CODE + i));
+    }
+    for (HttpMethod method : HttpMethod.values()) {
+      METHODS.put(method, Tag.of(Label.HTTP_METHOD.toString(), method.toString()));
+    }
+  }
+
   private Labels() {
     // Utility
   }
@@ -51,4 +75,20 @@ public final class Labels {
   public static Tag side(boolean local) {
     return local ? LOCAL : REMOTE;
   }
+
+  public static Tag statusCode(int statusCode) {
+    if (statusCode >= MIN_STATUS_CODE && statusCode <= MAX_STATUS_CODE) {
+      return STATUS_CODES[statusCode - MIN_STATUS_CODE];
+    }
+    return Tag.of(Label.HTTP_CODE.toString(), String.valueOf(statusCode));
+  }
+
+  public static Tag method(HttpMethod method) {
+    Tag tag = METHODS.get(method);
+    return tag != null ? tag : Tag.of(Label.HTTP_METHOD.toString(), method.toString());
+  }
+
+  public static Tag className(Throwable t) {
+    return CLASS_NAMES.get(t.getClass());
+  }
 }
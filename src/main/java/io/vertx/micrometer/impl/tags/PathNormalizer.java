@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl.tags;
+
+import io.vertx.micrometer.impl.LruCache;
+import io.vertx.micrometer.impl.MeterCache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Replaces the variable segments of HTTP paths with placeholders, so that the {@code path} label has bounded values.
+ * <p>
+ * Paths are first matched against user templates (e.g. {@code /users/{id}/orders}), where a segment enclosed in braces
+ * matches any value. When several templates match, literal segments take precedence over variables, from left to right.
+ * Templates are matched by a deterministic automaton over path segments, so matching walks the path once with one
+ * lookup per segment, without allocating segment strings. The states of the automaton are compiled lazily, when a path
+ * first reaches them, since overlapping literal and variable templates can have exponentially many states. At most
+ * {@link #MAX_STATES} states are kept; past this limit, the states a path reaches are compiled again for each match.
+ * When no template matches, segments are replaced individually:
+ * <ul>
+ *   <li>decimal numbers with {@link #ID},</li>
+ *   <li>UUIDs with {@link #UUID},</li>
+ *   <li>hexadecimal strings of at least {@link #MIN_HEX_LENGTH} characters, with at least one digit, with {@link #HEX}.</li>
+ * </ul>
+ * Normalized paths are kept in a bounded cache evicting the least recently used paths, so that recent paths are still
+ * found when more distinct paths than the cache size are seen.
+ */
+public final class PathNormalizer {
+
+  public static final String ID = "{id}";
+  public static final String UUID = "{uuid}";
+  public static final String HEX = "{hex}";
+  public static final int MIN_HEX_LENGTH = 8;
+  public static final int MAX_STATES = 4096;
+
+  private final ConcurrentMap<List<Node>, State> states = new ConcurrentHashMap<>();
+  private final State root;
+  private final LruCache<String, String> normalized;
+
+  public PathNormalizer(List<String> templates) {
+    Node trie = new Node();
+    for (String template : templates) {
+      trie.add(template);
+    }
+    root = state(Collections.singletonList(trie));
+    normalized = new LruCache<>(MeterCache.DEFAULT_MAX_SIZE);
+  }
+
+  public String normalize(String path) {
+    return normalized.get(path, this::doNormalize);
+  }
+
+  /**
+   * @return the state reached by {@code nodes}, shared by all the paths reaching the same nodes unless there are too many
+   * states already
+   */
+  private State state(List<Node> nodes) {
+    // The key is a list rather than a set: the order of the nodes is their precedence
+    State state = states.get(nodes);
+    if (state == null) {
+      state = new State(nodes);
+      if (states.size() < MAX_STATES) {
+        State previous = states.putIfAbsent(nodes, state);
+        if (previous != null) {
+          state = previous;
+        }
+      }
+    }
+    return state;
+  }
+
+  private String doNormalize(String path) {
+    String template = root.match(path, segmentStart(path, 0));
+    return template != null ? template : replaceSegments(path);
+  }
+
+  private static String replaceSegments(String path) {
+    StringBuilder sb = null;
+    int copied = 0;
+    for (int start = segmentStart(path, 0); start <= path.length(); ) {
+      int end = segmentEnd(path, start);
+      String placeholder = placeholder(path, start, end);
+      if (placeholder != null) {
+        if (sb == null) {
+          sb = new StringBuilder(path.length());
+        }
+        sb.append(path, copied, start).append(placeholder);
+        copied = end;
+      }
+      start = end + 1;
+    }
+    if (sb == null) {
+      return path;
+    }
+    return sb.append(path, copied, path.length()).toString();
+  }
+
+  private static String placeholder(String path, int start, int end) {
+    int length = end - start;
+    if (length == 0) {
+      return null;
+    }
+    boolean digits = true, hex = true;
+    boolean hasDigit = false;
+    for (int i = start; i < end; i++) {
+      char c = path.charAt(i);
+      if (c >= '0' && c <= '9') {
+        hasDigit = true;
+      } else {
+        digits = false;
+        if (!isHexLetter(c)) {
+          hex = false;
+          break;
+        }
+      }
+    }
+    if (digits) {
+      return ID;
+    }
+    if (hex && hasDigit && length >= MIN_HEX_LENGTH) {
+      return HEX;
+    }
+    return isUuid(path, start, end) ? UUID : null;
+  }
+
+  // 8-4-4-4-12 hexadecimal digits
+  private static boolean isUuid(String path, int start, int end) {
+    if (end - start != 36) {
+      return false;
+    }
+    for (int i = 0; i < 36; i++) {
+      char c = path.charAt(start + i);
+      if (i == 8 || i == 13 || i == 18 || i == 23) {
+        if (c != '-') {
+          return false;
+        }
+      } else if (!(c >= '0' && c <= '9') && !isHexLetter(c)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isHexLetter(char c) {
+    return c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+  }
+
+  private static int segmentStart(String path, int from) {
+    return from < path.length() && path.charAt(from) == '/' ? from + 1 : from;
+  }
+
+  private static int segmentEnd(String path, int start) {
+    int end = path.indexOf('/', start);
+    return end == -1 ? path.length() : end;
+  }
+
+  private static boolean isVariable(String segment) {
+    return segment.length() > 1 && segment.charAt(0) == '{' && segment.charAt(segment.length() - 1) == '}';
+  }
+
+  /**
+   * A node of the trie of templates, only used to compile the automaton.
+   */
+  private static final class Node {
+
+    final Map<String, Node> literals = new HashMap<>();
+    Node variable;
+    String template;
+
+    void add(String template) {
+      Node node = this;
+      int start = segmentStart(template, 0);
+      while (start <= template.length()) {
+        int end = segmentEnd(template, start);
+        String segment = template.substring(start, end);
+        node = isVariable(segment) ? node.variable() : node.literals.computeIfAbsent(segment, s -> new Node());
+        start = end + 1;
+      }
+      if (node.template == null) {
+        node.template = template;
+      }
+    }
+
+    private Node variable() {
+      if (variable == null) {
+        variable = new Node();
+      }
+      return variable;
+    }
+  }
+
+  /**
+   * A state of the matching automaton: the trie nodes a path prefix reaches, by decreasing precedence.
+   * <p>
+   * Transitions are resolved on first use. They are written without synchronization: concurrent matches may resolve
+   * the same transition, to the same shared state.
+   */
+  private final class State {
+
+    final List<Node> nodes;
+    final String template;
+    // Open addressing table of the literal segments of the nodes, indexed by the hash of the segment
+    final String[] segments;
+    final State[] targets;
+    final boolean hasVariable;
+    // Transition for a non-empty segment matching no literal
+    State variable;
+
+    State(List<Node> nodes) {
+      this.nodes = nodes;
+      String template = null;
+      Set<String> literals = new LinkedHashSet<>();
+      boolean hasVariable = false;
+      for (Node node : nodes) {
+        if (template == null) {
+          template = node.template;
+        }
+        literals.addAll(node.literals.keySet());
+        hasVariable |= node.variable != null;
+      }
+      this.template = template;
+      this.hasVariable = hasVariable;
+      if (literals.isEmpty()) {
+        segments = null;
+        targets = null;
+      } else {
+        int capacity = Integer.highestOneBit(literals.size() * 2 - 1) << 1;
+        segments = new String[capacity];
+        targets = new State[capacity];
+        for (String segment : literals) {
+          int i = hash(segment, 0, segment.length()) & (capacity - 1);
+          while (segments[i] != null) {
+            i = (i + 1) & (capacity - 1);
+          }
+          segments[i] = segment;
+        }
+      }
+    }
+
+    /**
+     * @return the state reached with the segment of {@code path} between {@code start} and {@code end}, or {@code null}
+     */
+    State next(String path, int start, int end) {
+      int i = slot(path, start, end);
+      if (i >= 0) {
+        State target = targets[i];
+        if (target == null) {
+          target = literalTarget(segments[i]);
+          if (states.get(target.nodes) == target) {
+            targets[i] = target;
+          }
+        }
+        return target;
+      }
+      if (end == start || !hasVariable) {
+        return null;
+      }
+      State target = variable;
+      if (target == null) {
+        List<Node> next = new ArrayList<>();
+        for (Node node : nodes) {
+          if (node.variable != null) {
+            next.add(node.variable);
+          }
+        }
+        target = state(next);
+        if (states.get(target.nodes) == target) {
+          variable = target;
+        }
+      }
+      return target;
+    }
+
+    private State literalTarget(String segment) {
+      // Children of a node precede the children of the nodes after it, its literal child preceding its variable
+      List<Node> next = new ArrayList<>();
+      for (Node node : nodes) {
+        Node literal = node.literals.get(segment);
+        if (literal != null) {
+          next.add(literal);
+        }
+        if (node.variable != null && !segment.isEmpty()) {
+          next.add(node.variable);
+        }
+      }
+      return state(next);
+    }
+
+    String match(String path, int start) {
+      State state = this;
+      while (start <= path.length()) {
+        int end = segmentEnd(path, start);
+        state = state.next(path, start, end);
+        if (state == null) {
+          return null;
+        }
+        start = end + 1;
+      }
+      return state.template;
+    }
+
+    private int slot(String path, int start, int end) {
+      if (segments == null) {
+        return -1;
+      }
+      int length = end - start;
+      int mask = segments.length - 1;
+      for (int i = hash(path, start, end) & mask; ; i = (i + 1) & mask) {
+        String segment = segments[i];
+        if (segment == null) {
+          return -1;
+        }
+        if (segment.length() == length && segment.regionMatches(0, path, start, length)) {
+          return i;
+        }
+      }
+    }
+  }
+
+  private static int hash(String s, int start, int end) {
+    int h = 0;
+    for (int i = start; i < end; i++) {
+      h = 31 * h + s.charAt(i);
+    }
+    return h ^ (h >>> 16);
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.impl.tags;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.Objects;
+
+/**
+ * A cache key made of base tags and up to three additional tags, any of which may be {@code null}.
+ * <p>
+ * Tags are compared by value, with a shortcut for identical instances: base tags usually come from a small set of
+ * instances (e.g. the local tags of a server, or tags previously resolved from another tuple) and additional tags are
+ * usually shared (see {@link Labels}).
+ * <p>
+ * {@link #toTags()} merges the additional tags into the base tags at once, instead of one {@link Tags#and} per tag.
+ */
+public final class TagTuple {
+
+  private final Tags base;
+  private final Tag first;
+  private final Tag second;
+  private final Tag third;
+  private final int hash;
+
+  public TagTuple(Tags base, Tag first, Tag second, Tag third) {
+    this.base = base;
+    this.first = first;
+    this.second = second;
+    this.third = third;
+    int h = base.hashCode();
+    h = 31 * h + Objects.hashCode(first);
+    h = 31 * h + Objects.hashCode(second);
+    h = 31 * h + Objects.hashCode(third);
+    this.hash = h;
+  }
+
+  public Tags toTags() {
+    int count = (first != null ? 1 : 0) + (second != null ? 1 : 0) + (third != null ? 1 : 0);
+    if (count == 0) {
+      return base;
+    }
+    Tag[] tags = new Tag[count];
+    int i = 0;
+    if (first != null) {
+      tags[i++] = first;
+    }
+    if (second != null) {
+      tags[i++] = second;
+    }
+    if (third != null) {
+      tags[i] = third;
+    }
+    return base.and(tags);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof TagTuple)) {
+      return false;
+    }
+    TagTuple other = (TagTuple) o;
+    return hash == other.hash
+      && (base == other.base || base.equals(other.base))
+      && Objects.equals(first, other.first)
+      && Objects.equals(second, other.second)
+      && Objects.equals(third, other.third);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.benchmarks;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.micrometer.impl.MeterCache;
+import io.vertx.micrometer.impl.meters.GaugeStore;
+import io.vertx.micrometer.impl.meters.LongGauges;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares the cost of resolving the "active requests" gauge for every request, by registration (the former
+ * behavior) or through a {@link MeterCache}.
+ * <p>
+ * Run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to get allocations per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActiveRequestsBenchmark {
+
+  private MeterRegistry registry;
+  private LongGauges longGauges;
+  private MeterCache<Tags, LongAdder> cache;
+  private Tags tags;
+
+  @Setup
+  public void setup() {
+    registry = new SimpleMeterRegistry();
+    // Bound to the registry as in production, so that slots and meter caches follow removals
+    GaugeStore store = GaugeStore.of(registry);
+    longGauges = new LongGauges(store);
+    cache = new MeterCache<>(MeterCache.DEFAULT_MAX_SIZE, store.removals("vertx.http.server.active.requests"));
+    tags = Tags.of("method", "GET", "server_name", "bench");
+  }
+
+  private LongAdder register(Tags tags) {
+    return longGauges.builder("vertx.http.server.active.requests", LongAdder::doubleValue)
+      .description("Number of requests being processed")
+      .tags(tags)
+      .register(registry);
+  }
+
+  @Benchmark
+  public LongAdder registerPerRequest() {
+    LongAdder requests = register(tags);
+    requests.increment();
+    requests.decrement();
+    return requests;
+  }
+
+  @Benchmark
+  public LongAdder cachedPerRequest() {
+    LongAdder requests = cache.get(tags, this::register);
+    requests.increment();
+    requests.decrement();
+    return requests;
+  }
+}
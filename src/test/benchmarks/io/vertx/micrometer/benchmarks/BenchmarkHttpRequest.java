@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.benchmarks;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.observability.HttpRequest;
+
+/**
+ * Immutable {@link HttpRequest} for benchmarks.
+ */
+class BenchmarkHttpRequest implements HttpRequest {
+
+  private final HttpMethod method;
+  private final String uri;
+  private final SocketAddress remoteAddress;
+  private final MultiMap headers;
+
+  BenchmarkHttpRequest(HttpMethod method, String uri, SocketAddress remoteAddress) {
+    this.method = method;
+    this.uri = uri;
+    this.remoteAddress = remoteAddress;
+    this.headers = MultiMap.caseInsensitiveMultiMap();
+  }
+
+  @Override
+  public int id() {
+    return 1;
+  }
+
+  @Override
+  public String uri() {
+    return uri;
+  }
+
+  @Override
+  public String absoluteURI() {
+    return "http://localhost:8080" + uri;
+  }
+
+  @Override
+  public HttpMethod method() {
+    return method;
+  }
+
+  @Override
+  public MultiMap headers() {
+    return headers;
+  }
+
+  @Override
+  public SocketAddress remoteAddress() {
+    return remoteAddress;
+  }
+
+  @Override
+  public HttpVersion version() {
+    return HttpVersion.HTTP_1_1;
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.benchmarks;
+
+import io.vertx.core.MultiMap;
+import io.vertx.core.spi.observability.HttpResponse;
+
+/**
+ * Immutable {@link HttpResponse} for benchmarks.
+ */
+class BenchmarkHttpResponse implements HttpResponse {
+
+  private final int statusCode;
+  private final MultiMap headers;
+
+  BenchmarkHttpResponse(int statusCode) {
+    this.statusCode = statusCode;
+    this.headers = MultiMap.caseInsensitiveMultiMap();
+  }
+
+  @Override
+  public int statusCode() {
+    return statusCode;
+  }
+
+  @Override
+  public MultiMap headers() {
+    return headers;
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.benchmarks;
+
+import io.vertx.core.datagram.DatagramSocketOptions;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.DatagramSocketMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Drives {@code VertxDatagramSocketMetrics} for received and sent packets.
+ */
+public class DatagramSocketMetricsBenchmark extends MetricsBenchmarkBase {
+
+  private DatagramSocketMetrics metrics;
+
+  @Override
+  protected void setupBenchmark() {
+    metrics = vertxMetrics.createDatagramSocketMetrics(new DatagramSocketOptions());
+    metrics.listening("localhost", SocketAddress.inetSocketAddress(9191, "localhost"));
+  }
+
+  @Benchmark
+  public void bytesReadWritten() {
+    SocketAddress remote = REMOTES[next(REMOTES.length)];
+    metrics.bytesRead(null, remote, 512);
+    metrics.bytesWritten(null, remote, 512);
+  }
+}
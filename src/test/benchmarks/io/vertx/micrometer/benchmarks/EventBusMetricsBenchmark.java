@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.benchmarks;
+
+import io.vertx.core.spi.metrics.EventBusMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Drives {@code VertxEventBusMetrics} for point-to-point and publish/subscribe messages.
+ */
+public class EventBusMetricsBenchmark extends MetricsBenchmarkBase {
+
+  private static final String[] ADDRESSES = {"orders", "users", "payments", "notifications"};
+
+  private EventBusMetrics<Object> metrics;
+  private Object[] handlers;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected void setupBenchmark() {
+    metrics = (EventBusMetrics<Object>) vertxMetrics.createEventBusMetrics();
+    handlers = new Object[ADDRESSES.length];
+    for (int i = 0; i < ADDRESSES.length; i++) {
+      handlers[i] = metrics.handlerRegistered(ADDRESSES[i]);
+    }
+  }
+
+  @Benchmark
+  public void sendLocal() {
+    int i = next(ADDRESSES.length);
+    String address = ADDRESSES[i];
+    metrics.messageSent(address, false, true, false);
+    metrics.messageReceived(address, false, true, 1);
+    metrics.messageDelivered(handlers[i], true);
+  }
+
+  @Benchmark
+  public void receiveRemote() {
+    int i = next(ADDRESSES.length);
+    String address = ADDRESSES[i];
+    metrics.messageRead(address, 256);
+    metrics.messageReceived(address, true, false, 1);
+    metrics.messageDelivered(handlers[i], false);
+  }
+
+  @Benchmark
+  public void sendRemote() {
+    String address = ADDRESSES[next(ADDRESSES.length)];
+    metrics.messageSent(address, false, false, true);
+    metrics.messageWritten(address, 256);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.benchmarks;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.micrometer.impl.meters.GaugeStore;
+import io.vertx.micrometer.impl.meters.LongGauges;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Measures the heap retained by 100k long gauges, once registered, then once their adders were incremented concurrently.
+ * <p>
+ * A {@link LongAdder} starts as a single {@code base} field updated with a CAS, it allocates striped cells only when a
+ * CAS fails, i.e. under contention, and keeps them afterwards. Gauges written by a single event loop stay uninflated.
+ * Compare {@code bytesPerGauge} with {@code bytesPerInflation} to get the cost of contention.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class GaugeMemoryBenchmark {
+
+  private static final int GAUGES = 100_000;
+  private static final int ROUNDS = 20;
+
+  @Param({"1", "4"})
+  int threads;
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Footprint {
+
+    public long bytesPerGauge;
+    public long bytesPerInflation;
+  }
+
+  @Benchmark
+  public void registerAndIncrement(Footprint footprint, Blackhole blackhole) throws InterruptedException {
+    long initial = usedHeap();
+    MeterRegistry registry = new SimpleMeterRegistry();
+    LongGauges longGauges = new LongGauges(GaugeStore.of(registry));
+    LongAdder[] adders = new LongAdder[GAUGES];
+    for (int i = 0; i < GAUGES; i++) {
+      adders[i] = longGauges.builder("vertx.net.server.active.connections", LongAdder::doubleValue)
+        .tags(Tags.of("remote", "10.0." + (i >> 8) + "." + (i & 0xFF)))
+        .register(registry);
+    }
+    long registered = usedHeap();
+
+    // Threads walk the gauges in the same order, so they often increment the same adder at the same time
+    Thread[] writers = new Thread[threads];
+    for (int t = 0; t < threads; t++) {
+      writers[t] = new Thread(() -> {
+        for (int r = 0; r < ROUNDS; r++) {
+          for (LongAdder adder : adders) {
+            adder.increment();
+          }
+        }
+      });
+      writers[t].start();
+    }
+    for (Thread writer : writers) {
+      writer.join();
+    }
+    long incremented = usedHeap();
+
+    footprint.bytesPerGauge = (registered - initial) / GAUGES;
+    footprint.bytesPerInflation = (incremented - registered) / GAUGES;
+    blackhole.consume(registry);
+    blackhole.consume(adders);
+  }
+
+  private static long usedHeap() {
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    for (int i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return memory.getHeapMemoryUsage().getUsed();
+  }
+}
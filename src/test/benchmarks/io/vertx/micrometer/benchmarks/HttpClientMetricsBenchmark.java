@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.benchmarks;
+
+import io.vertx.core.http.HttpClientConfig;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.core.spi.metrics.HttpClientMetrics;
+import io.vertx.core.spi.observability.HttpRequest;
+import io.vertx.core.spi.observability.HttpResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Drives {@code VertxHttpClientMetrics.EndpointMetrics} through a full request/response cycle.
+ */
+public class HttpClientMetricsBenchmark extends MetricsBenchmarkBase {
+
+  private static final String[] URIS = {"/users/1", "/users/2?expand=true", "/orders", "/health"};
+
+  private ClientMetrics<Object, HttpRequest, HttpResponse> endpointMetrics;
+  private BenchmarkHttpRequest[] requests;
+  private BenchmarkHttpResponse response;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected void setupBenchmark() {
+    HttpClientMetrics<Object, Object> metrics = (HttpClientMetrics<Object, Object>) vertxMetrics.createHttpClientMetrics(new HttpClientConfig());
+    endpointMetrics = metrics.createEndpointMetrics(REMOTES[0], 10);
+    requests = new BenchmarkHttpRequest[URIS.length];
+    for (int i = 0; i < URIS.length; i++) {
+      requests[i] = new BenchmarkHttpRequest(HttpMethod.GET, URIS[i], REMOTES[0]);
+    }
+    response = new BenchmarkHttpResponse(200);
+  }
+
+  @Benchmark
+  public Object requestResponse() {
+    BenchmarkHttpRequest request = requests[next(requests.length)];
+    Object requestMetric = endpointMetrics.init();
+    endpointMetrics.requestBegin(requestMetric, request.uri(), request);
+    endpointMetrics.requestEnd(requestMetric, 64);
+    endpointMetrics.responseBegin(requestMetric, response);
+    endpointMetrics.responseEnd(requestMetric, 512);
+    return requestMetric;
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.benchmarks;
+
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerConfig;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.HttpServerMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Drives {@code VertxHttpServerMetrics} through a full request/response cycle.
+ */
+public class HttpServerMetricsBenchmark extends MetricsBenchmarkBase {
+
+  private static final String[] URIS = {"/users/1", "/users/2?expand=true", "/orders", "/health"};
+
+  private HttpServerMetrics<Object, Object> metrics;
+  private BenchmarkHttpRequest[] requests;
+  private BenchmarkHttpResponse response;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected void setupBenchmark() {
+    metrics = (HttpServerMetrics<Object, Object>) vertxMetrics.createHttpServerMetrics(new HttpServerConfig(), SocketAddress.inetSocketAddress(8080, "localhost"), null);
+    requests = new BenchmarkHttpRequest[URIS.length];
+    for (int i = 0; i < URIS.length; i++) {
+      requests[i] = new BenchmarkHttpRequest(HttpMethod.GET, URIS[i], REMOTES[i % REMOTES.length]);
+    }
+    response = new BenchmarkHttpResponse(200);
+  }
+
+  @Benchmark
+  public Object requestResponse() {
+    BenchmarkHttpRequest request = requests[next(requests.length)];
+    Object requestMetric = metrics.requestBegin(request.remoteAddress(), request);
+    metrics.requestEnd(requestMetric, request, 64);
+    metrics.requestRouted(requestMetric, "/users");
+    metrics.requestRouted(requestMetric, "/:id");
+    metrics.responseEnd(requestMetric, response, 512);
+    return requestMetric;
+  }
+}
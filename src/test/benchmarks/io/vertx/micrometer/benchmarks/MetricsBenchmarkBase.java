@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.benchmarks;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.micrometer.Label;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.backends.BackendRegistries;
+import io.vertx.micrometer.backends.BackendRegistry;
+import io.vertx.micrometer.impl.VertxMetricsImpl;
+import io.vertx.micrometer.impl.meters.ConfinedCounters;
+import io.vertx.micrometer.impl.meters.GaugeStore;
+import io.vertx.micrometer.impl.meters.LongGauges;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base state for benchmarks driving the metrics SPI implementations directly, without any network I/O.
+ * <p>
+ * Run with {@code -prof gc} (the default of the {@code benchmarks} profile) to get {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class MetricsBenchmarkBase {
+
+  /**
+   * Sample remote addresses, so that unbounded labels get several (but a bounded number of) values.
+   */
+  static final SocketAddress[] REMOTES = {
+    SocketAddress.inetSocketAddress(40001, "10.0.0.1"),
+    SocketAddress.inetSocketAddress(40002, "10.0.0.2"),
+    SocketAddress.inetSocketAddress(40003, "10.0.0.3"),
+    SocketAddress.inetSocketAddress(40004, "10.0.0.4"),
+  };
+
+  @Param({"simple", "prometheus", "noop"})
+  public String registry;
+
+  /**
+   * {@code default}: the default labels; {@code unbounded}: the default labels plus labels with unbounded values.
+   */
+  @Param({"default", "unbounded"})
+  public String labels;
+
+  @Param({"false", "true"})
+  public boolean tagsProvider;
+
+  protected MeterRegistry meterRegistry;
+  protected VertxMetricsImpl vertxMetrics;
+  private String registryName;
+  private int counter;
+
+  @Setup
+  public final void setupMetrics() {
+    switch (registry) {
+      case "simple":
+        meterRegistry = new SimpleMeterRegistry();
+        break;
+      case "prometheus":
+        meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        break;
+      case "noop":
+        // A composite registry without any child only creates noop meters
+        meterRegistry = new CompositeMeterRegistry();
+        break;
+      default:
+        throw new IllegalArgumentException(registry);
+    }
+    registryName = UUID.randomUUID().toString();
+    MicrometerMetricsOptions options = new MicrometerMetricsOptions()
+      .setEnabled(true)
+      .setRegistryName(registryName);
+    if ("unbounded".equals(labels)) {
+      EnumSet<Label> enabled = EnumSet.copyOf(MicrometerMetricsOptions.DEFAULT_LABELS);
+      enabled.add(Label.HTTP_PATH);
+      enabled.add(Label.HTTP_ROUTE);
+      enabled.add(Label.REMOTE);
+      enabled.add(Label.EB_ADDRESS);
+      options.setLabels(enabled);
+    }
+    if (tagsProvider) {
+      options.setServerRequestTagsProvider(req -> Collections.singletonList(Tag.of("tenant", "acme")));
+      options.setClientRequestTagsProvider(req -> Collections.singletonList(Tag.of("tenant", "acme")));
+    }
+    configure(options);
+    BackendRegistry backendRegistry = BackendRegistries.setupBackend(options, meterRegistry);
+    GaugeStore gaugeStore = GaugeStore.of(backendRegistry.getMeterRegistry());
+    vertxMetrics = new VertxMetricsImpl(options, backendRegistry, new LongGauges(gaugeStore),
+      new ConfinedCounters(gaugeStore));
+    setupBenchmark();
+  }
+
+  /**
+   * Adjust the options of the benchmark, invoked before {@link #vertxMetrics} is created.
+   */
+  protected void configure(MicrometerMetricsOptions options) {
+  }
+
+  /**
+   * Create the SPI metrics object under test, invoked once {@link #vertxMetrics} is ready.
+   */
+  protected abstract void setupBenchmark();
+
+  @TearDown
+  public void tearDownMetrics() {
+    BackendRegistries.stop(registryName);
+    meterRegistry.close();
+  }
+
+  /**
+   * @return a value cycling over {@code size} values, to exercise several label values
+   */
+  protected int next(int size) {
+    int i = counter++;
+    if (counter == size) {
+      counter = 0;
+    }
+    return i;
+  }
+}
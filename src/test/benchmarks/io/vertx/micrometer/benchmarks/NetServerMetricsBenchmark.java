@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.benchmarks;
+
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.TransportMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Drives {@code VertxNetServerMetrics}: connection lifecycle and I/O on established connections.
+ */
+public class NetServerMetricsBenchmark extends MetricsBenchmarkBase {
+
+  private TransportMetrics<Object> metrics;
+  private Object[] sockets;
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected void setupBenchmark() {
+    // The TCP server config is not used by the metrics implementation
+    metrics = (TransportMetrics<Object>) vertxMetrics.createTcpServerMetrics(null, "tcp", SocketAddress.inetSocketAddress(9090, "localhost"));
+    sockets = new Object[REMOTES.length];
+    for (int i = 0; i < REMOTES.length; i++) {
+      sockets[i] = metrics.connected(REMOTES[i], REMOTES[i].host());
+    }
+  }
+
+  @Benchmark
+  public void bytesReadWritten() {
+    int i = next(REMOTES.length);
+    SocketAddress remote = REMOTES[i];
+    metrics.bytesRead(sockets[i], remote, 1024);
+    metrics.bytesWritten(sockets[i], remote, 2048);
+  }
+
+  @Benchmark
+  public Object connectDisconnect() {
+    SocketAddress remote = REMOTES[next(REMOTES.length)];
+    Object socket = metrics.connected(remote, remote.host());
+    metrics.disconnected(socket, remote);
+    return socket;
+  }
+}
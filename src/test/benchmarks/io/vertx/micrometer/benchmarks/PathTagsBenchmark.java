@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.benchmarks;
+
+import io.micrometer.core.instrument.Tag;
+import io.vertx.micrometer.Label;
+import io.vertx.micrometer.impl.PathTags;
+import io.vertx.micrometer.impl.tags.CardinalityGuard;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the resolution of the {@code path} tag of typical REST URIs by {@link PathTags} with the former approach of
+ * extracting the path with {@code substring} and creating a new tag for each request.
+ * <p>
+ * Run with {@code -prof gc} to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathTagsBenchmark {
+
+  private static final String[] PLAIN = {"/api/users/42", "/api/users/42/orders", "/api/orders/1337/items", "/health"};
+  private static final String[] QUERY = {"/api/users/42?expand=orders", "/api/users/42/orders?page=2&size=50",
+    "/api/orders/1337/items?sort=price", "/health?verbose=true"};
+  private static final String[] ABSOLUTE = {"http://example.com/api/users/42", "http://example.com/api/users/42/orders?page=2",
+    "https://example.com:8443/api/orders/1337/items", "http://example.com/health"};
+
+  @Param({"plain", "query", "absolute"})
+  public String uris;
+
+  private String[] values;
+  private PathTags pathTags;
+  private int index;
+
+  @Setup
+  public void setup() {
+    switch (uris) {
+      case "plain":
+        values = PLAIN;
+        break;
+      case "query":
+        values = QUERY;
+        break;
+      default:
+        values = ABSOLUTE;
+    }
+    pathTags = new PathTags(null, CardinalityGuard.NONE, true);
+  }
+
+  private String nextUri() {
+    index = (index + 1) & 3;
+    return values[index];
+  }
+
+  @Benchmark
+  public Tag cached() {
+    return pathTags.get(nextUri());
+  }
+
+  @Benchmark
+  public Tag substring() {
+    return Tag.of(Label.HTTP_PATH.toString(), parsePath(nextUri()));
+  }
+
+  // Former HttpUtils#parsePath
+  private static String parsePath(String uri) {
+    int i;
+    if (uri.charAt(0) == '/') {
+      i = 0;
+    } else {
+      i = uri.indexOf("://");
+      if (i == -1) {
+        i = 0;
+      } else {
+        i = uri.indexOf('/', i + 3);
+        if (i == -1) {
+          return "/";
+        }
+      }
+    }
+    int queryStart = uri.indexOf('?', i);
+    if (queryStart == -1) {
+      queryStart = uri.length();
+      if (i == 0) {
+        return uri;
+      }
+    }
+    return uri.substring(i, queryStart);
+  }
+}
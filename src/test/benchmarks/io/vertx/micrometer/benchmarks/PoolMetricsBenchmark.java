@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.benchmarks;
+
+import io.vertx.core.spi.metrics.PoolMetrics;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * Drives {@code VertxPoolMetrics} through a task lifecycle: enqueue, dequeue, begin and end.
+ * <p>
+ * The {@code queueMax} parameter measures the cost of recording the queue size maximum on enqueue.
+ */
+public class PoolMetricsBenchmark extends MetricsBenchmarkBase {
+
+  @Param({"false", "true"})
+  public boolean queueMax;
+
+  private PoolMetrics<Object, Object> metrics;
+
+  @Override
+  protected void configure(MicrometerMetricsOptions options) {
+    options.setPoolQueueMaxEnabled(queueMax);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  protected void setupBenchmark() {
+    metrics = (PoolMetrics<Object, Object>) vertxMetrics.createPoolMetrics("worker", "benchmark-pool", 20);
+  }
+
+  @Benchmark
+  public Object taskLifecycle() {
+    Object queued = metrics.enqueue();
+    metrics.dequeue(queued);
+    Object usage = metrics.begin();
+    metrics.end(usage);
+    return usage;
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.benchmarks;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.micrometer.impl.ExpositionFormat;
+import io.vertx.micrometer.impl.PrometheusScraper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of rendering a registry in each {@link ExpositionFormat}, with and without gzip.
+ * <p>
+ * The protobuf format falls back to text if the Prometheus protobuf writer is not on the classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrometheusScrapeBenchmark {
+
+  @Param({"TEXT", "OPEN_METRICS", "PROTOBUF"})
+  public ExpositionFormat format;
+
+  @Param({"false", "true"})
+  public boolean gzip;
+
+  @Param({"10000"})
+  public int series;
+
+  private PrometheusMeterRegistry registry;
+  private PrometheusScraper scraper;
+
+  @Setup
+  public void setup() {
+    registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    for (int i = 0; i < series / 2; i++) {
+      String path = "/api/resource/" + i;
+      Counter.builder("vertx.http.server.requests").tags("method", "GET", "path", path).register(registry).increment(i);
+      Timer.builder("vertx.http.server.response.time").tags("method", "GET", "path", path).register(registry).record(i, TimeUnit.MILLISECONDS);
+    }
+    scraper = new PrometheusScraper(registry, 0, TimeUnit.MILLISECONDS, true);
+  }
+
+  @TearDown
+  public void tearDown() {
+    registry.close();
+  }
+
+  @Benchmark
+  public List<Buffer> scrape() {
+    return scraper.scrape(format, gzip).result();
+  }
+}
@@ -29,6 +29,7 @@ import io.vertx.micrometer.backends.BackendRegistries;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import static io.vertx.micrometer.Label.EB_ADDRESS;
@@ -88,4 +89,39 @@ public class MatchersTest {
     c = registry.find(metric2).tags("address", "addr2").counter();
     assertThat(c).isNotNull().extracting(Counter::count).isEqualTo(1d);
   }
+
+  @Test
+  public void shouldChainAliasesInOrder() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    BackendRegistries.registerMatchers(registry, Arrays.asList(
+      new Match().setLabel("address").setType(MatchType.REGEX).setValue("addr[0-9]+").setAlias("addr"),
+      new Match().setLabel("address").setType(MatchType.EQUALS).setValue("addr").setAlias("any"),
+      new Match().setLabel("address").setDomain(MetricsDomain.HTTP_SERVER).setType(MatchType.EQUALS).setValue("any").setAlias("ignored")));
+    String metric = MetricsDomain.EVENT_BUS.getPrefix() + "_counter";
+    for (int i = 0; i < 3; i++) {
+      Counter.builder(metric).tags(Tags.of(EB_ADDRESS.toString(), "addr" + i)).register(registry).increment();
+    }
+    Counter.builder(metric).tags(Tags.of(EB_ADDRESS.toString(), "other")).register(registry).increment();
+
+    assertThat(registry.find(metric).tags("address", "any").counter()).isNotNull().extracting(Counter::count).isEqualTo(3d);
+    assertThat(registry.find(metric).tags("address", "other").counter()).isNotNull().extracting(Counter::count).isEqualTo(1d);
+  }
+
+  @Test
+  public void shouldStopAtFirstDecisiveRule() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    BackendRegistries.registerMatchers(registry, Arrays.asList(
+      // Accepts any meter outside of the event bus domain, and event bus meters with a matching address
+      new Match().setLabel("address").setDomain(MetricsDomain.EVENT_BUS).setType(MatchType.REGEX).setValue("addr[0-9]"),
+      new Match().setLabel("address").setType(MatchType.EQUALS).setValue("addr1")));
+    String ebMetric = MetricsDomain.EVENT_BUS.getPrefix() + "_counter";
+    Counter.builder(ebMetric).tags(Tags.of(EB_ADDRESS.toString(), "addr2")).register(registry).increment();
+    Counter.builder(ebMetric).tags(Tags.of(EB_ADDRESS.toString(), "other")).register(registry).increment();
+    String otherMetric = "another_domain_counter";
+    Counter.builder(otherMetric).tags(Tags.of(EB_ADDRESS.toString(), "addr2")).register(registry).increment();
+
+    assertThat(registry.find(ebMetric).tags("address", "addr2").counter()).isNotNull();
+    assertThat(registry.find(ebMetric).tags("address", "other").counter()).isNull();
+    assertThat(registry.find(otherMetric).tags("address", "addr2").counter()).isNotNull();
+  }
 }
@@ -8,7 +8,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 public class MetricsNamingTest {
 
-  private static int NB_METRICS = 39;
+  private static int NB_METRICS = 44;
 
   @Test
   public void v3NamesShouldCoverAllMetrics() {
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vertx.micrometer.tests;
+
+import io.vertx.micrometer.CardinalityLimit;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.VertxPrometheusOptions;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MicrometerMetricsOptionsTest {
+
+  @Test
+  public void shouldRejectInvalidValues() {
+    MicrometerMetricsOptions options = new MicrometerMetricsOptions();
+    assertThatThrownBy(() -> options.setHttpTimerSamplingInterval(0)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> options.setCoarseClockResolution(-1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> options.setNetMeterIdleTimeout(-1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new VertxPrometheusOptions().setHistogramBuckets(-1)).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> new CardinalityLimit().setMaxValues(-1)).isInstanceOf(IllegalArgumentException.class);
+  }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.tests;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.micrometer.backends.BackendRegistries;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(VertxUnitRunner.class)
+public class VertxHttpMeterRemovalTest extends MicrometerMetricsTestBase {
+
+  @Test
+  public void shouldRegisterRemovedMetersAgain(TestContext ctx) {
+    vertx = vertx(ctx);
+
+    Async serverReady = ctx.async();
+    vertx.createHttpServer()
+      .requestHandler(req -> req.response().end())
+      .listen(9197, "127.0.0.1")
+      .onComplete(ctx.asyncAssertSuccess(s -> serverReady.complete()));
+    serverReady.awaitSuccess();
+
+    HttpClient client = vertx.createHttpClient();
+    request(ctx, client);
+    waitForValue(ctx, "vertx.http.server.requests[code=200,method=GET]$COUNT", value -> value.intValue() == 1);
+
+    MeterRegistry registry = BackendRegistries.getNow(registryName);
+    registry.remove(registry.get("vertx.http.server.requests").counter());
+    registry.remove(registry.get("vertx.http.server.active.requests").gauge());
+    assertThat(registry.find("vertx.http.server.requests").counter()).isNull();
+
+    request(ctx, client);
+    waitForValue(ctx, "vertx.http.server.requests[code=200,method=GET]$COUNT", value -> value.intValue() == 1);
+    assertThat(registry.get("vertx.http.server.active.requests").gauge().value()).isZero();
+  }
+
+  private static void request(TestContext ctx, HttpClient client) {
+    Async done = ctx.async();
+    client.request(HttpMethod.GET, 9197, "127.0.0.1", "/")
+      .compose(req -> req.send().compose(resp -> resp.body()))
+      .onComplete(ctx.asyncAssertSuccess(v -> done.complete()));
+    done.awaitSuccess();
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.tests;
+
+import io.vertx.core.Future;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(VertxUnitRunner.class)
+public class VertxHttpTimerSamplingTest extends MicrometerMetricsTestBase {
+
+  private static final int REQUESTS = 200;
+
+  @Override
+  protected MicrometerMetricsOptions metricOptions() {
+    return super.metricOptions()
+      .setHttpTimerSamplingInterval(4);
+  }
+
+  @Test
+  public void shouldSampleResponseTimes(TestContext ctx) {
+    vertx = vertx(ctx);
+
+    Async serverReady = ctx.async();
+    vertx.createHttpServer()
+      .requestHandler(req -> req.response().end())
+      .listen(9195, "127.0.0.1")
+      .onComplete(ctx.asyncAssertSuccess(s -> serverReady.complete()));
+    serverReady.awaitSuccess();
+
+    HttpClient client = vertx.createHttpClient();
+    List<Future<?>> responses = new ArrayList<>();
+    for (int i = 0; i < REQUESTS; i++) {
+      responses.add(client.request(HttpMethod.GET, 9195, "127.0.0.1", "/")
+        .compose(req -> req.send().compose(resp -> resp.body())));
+    }
+    Async done = ctx.async();
+    Future.all(responses).onComplete(ctx.asyncAssertSuccess(v -> done.complete()));
+    done.awaitSuccess();
+
+    waitForValue(ctx, "vertx.http.server.requests[code=200,method=GET]$COUNT", value -> value.intValue() == REQUESTS);
+    waitForValue(ctx, "vertx.http.client.responses[code=200,method=GET]$COUNT", value -> value.intValue() == REQUESTS);
+
+    List<Datapoint> datapoints = listDatapoints(m -> true);
+    assertThat(datapoints).contains(
+      dp("vertx.http.server.timer.sample.rate[]$VALUE", 0.25),
+      dp("vertx.http.client.timer.sample.rate[]$VALUE", 0.25));
+    for (String timer : new String[]{"vertx.http.server.response.time", "vertx.http.client.response.time"}) {
+      assertThat(datapoints)
+        .filteredOn(dp -> dp.id().equals(timer + "[code=200,method=GET]$COUNT"))
+        .extracting(Datapoint::value)
+        .hasSize(1)
+        .allSatisfy(count -> assertThat(count).isGreaterThan(0).isLessThan(REQUESTS));
+    }
+  }
+}
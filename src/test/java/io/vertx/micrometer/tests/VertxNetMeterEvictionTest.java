@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.tests;
+
+import io.vertx.core.net.NetClient;
+import io.vertx.core.net.NetSocket;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+import io.vertx.micrometer.Label;
+import io.vertx.micrometer.MetricsDomain;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(VertxUnitRunner.class)
+public class VertxNetMeterEvictionTest extends MicrometerMetricsTestBase {
+
+  @Override
+  protected MicrometerMetricsOptions metricOptions() {
+    return super.metricOptions()
+      .addDisabledMetricsCategory(MetricsDomain.EVENT_BUS)
+      .addLabels(Label.LOCAL, Label.REMOTE)
+      .setNetMeterIdleTimeout(100)
+      .setNetMeterIdleTimeoutUnit(TimeUnit.MILLISECONDS);
+  }
+
+  @Test
+  public void shouldEvictIdleMeters(TestContext ctx) {
+    vertx = vertx(ctx);
+
+    Async serverReady = ctx.async();
+    vertx.createNetServer()
+      .connectHandler(socket -> socket.handler(buffer -> socket.write(buffer)))
+      .listen(9196, "localhost")
+      .onComplete(ctx.asyncAssertSuccess(s -> serverReady.complete()));
+    serverReady.awaitSuccess();
+
+    NetClient client = vertx.createNetClient();
+    int port = connectAndClose(ctx, client);
+    waitForValue(ctx, "vertx.net.server.meters.evicted[local=localhost:9196]$COUNT", value -> value.intValue() == 0);
+    assertThat(listDatapoints(startsWith("vertx.net.server.bytes.read"))).hasSize(1);
+    assertThat(remoteDatapoints(port)).isNotEmpty();
+
+    // Idle meters are looked for when connections are opened or closed, each one from another port, i.e. another remote
+    long timerId = vertx.setPeriodic(20, id -> client.connect(9196, "localhost").onSuccess(NetSocket::close));
+    // Each remote has a connection gauge and two byte counters
+    waitForValue(ctx, "vertx.net.server.meters.evicted[local=localhost:9196]$COUNT", value -> value.intValue() >= 3);
+    vertx.cancelTimer(timerId);
+
+    // The meters of the first remote were idle for the longest time
+    assertThat(remoteDatapoints(port)).isEmpty();
+  }
+
+  private List<Datapoint> remoteDatapoints(int port) {
+    return listDatapoints(startsWith("vertx.net.server.")).stream()
+      .filter(dp -> dp.id().contains(":" + port + "]"))
+      .collect(Collectors.toList());
+  }
+
+  private int connectAndClose(TestContext ctx, NetClient client) {
+    Async closed = ctx.async();
+    AtomicInteger port = new AtomicInteger();
+    client.connect(9196, "localhost").onComplete(ctx.asyncAssertSuccess(socket -> {
+      port.set(socket.localAddress().port());
+      socket.closeHandler(v -> closed.complete());
+      socket.handler(buffer -> socket.close());
+      socket.write("ping");
+    }));
+    closed.awaitSuccess();
+    return port.get();
+  }
+}
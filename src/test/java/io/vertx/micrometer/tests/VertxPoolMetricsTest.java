@@ -63,6 +63,7 @@ public class VertxPoolMetricsTest extends MicrometerMetricsTestBase {
       value -> value.intValue() == taskCount);
 
     List<Datapoint> datapoints = listDatapoints(startsWith("vertx.pool").and(hasTag("pool_name", "test-worker")));
+    // The queue max gauge is not published by default
     assertThat(datapoints).hasSize(10).contains(
       dp("vertx.pool.queue.pending[pool_name=test-worker,pool_type=worker]$VALUE", 0),
       dp("vertx.pool.in.use[pool_name=test-worker,pool_type=worker]$VALUE", 0),
@@ -92,6 +93,7 @@ public class VertxPoolMetricsTest extends MicrometerMetricsTestBase {
 
   @Test
   public void shouldReportUsageMetrics(TestContext context) {
+    metricsOptions.setPoolQueueMaxEnabled(true);
     vertx = vertx(context);
 
     int maxPoolSize = 8;
@@ -118,7 +120,19 @@ public class VertxPoolMetricsTest extends MicrometerMetricsTestBase {
     assertThat(datapoints).hasSize(1).contains(
       dp("vertx.pool.ratio[pool_name=test-worker,pool_type=worker]$VALUE", 1.0D));
 
+    // The maximum includes the elements still pending
+    datapoints = listDatapoints(startsWith("vertx.pool.queue.max").and(hasTag("pool_name", "test-worker")));
+    assertThat(datapoints).hasSize(1)
+      .extracting(Datapoint::value)
+      .allSatisfy(value -> assertThat(value).isBetween((double) taskCount - maxPoolSize, (double) taskCount));
+
     latch.countDown();
     ready.awaitSuccess();
+
+    // The queue is now empty, but the maximum is kept over a window rather than reset by the previous read
+    datapoints = listDatapoints(startsWith("vertx.pool.queue.max").and(hasTag("pool_name", "test-worker")));
+    assertThat(datapoints).hasSize(1)
+      .extracting(Datapoint::value)
+      .allSatisfy(value -> assertThat(value).isGreaterThanOrEqualTo((double) taskCount - maxPoolSize));
   }
 }
@@ -16,8 +16,13 @@
 
 package io.vertx.micrometer.tests.backend;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
 import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
 import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.ext.unit.Async;
 import io.vertx.ext.unit.TestContext;
@@ -33,12 +38,18 @@ import io.vertx.micrometer.tests.MicrometerMetricsTestBase;
 import io.vertx.micrometer.PrometheusScrapingHandler;
 import io.vertx.micrometer.VertxPrometheusOptions;
 import io.vertx.micrometer.backends.BackendRegistries;
+import io.vertx.micrometer.backends.PrometheusBackendRegistry;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 
 @RunWith(VertxUnitRunner.class)
 public class PrometheusMetricsITest extends MicrometerMetricsTestBase {
@@ -103,6 +114,101 @@ public class PrometheusMetricsITest extends MicrometerMetricsTestBase {
     async.awaitSuccess(10000);
   }
 
+  @Test
+  public void shouldShareScrapeWithinTtl(TestContext context) {
+    metricsOptions = new MicrometerMetricsOptions()
+      .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true)
+        .setScrapeCacheTtl(60_000))
+      .setRegistryName(registryName)
+      .setEnabled(true);
+
+    vertx = vertx(context);
+
+    Router router = Router.router(vertx);
+    router.route("/custom").handler(PrometheusScrapingHandler.create(registryName));
+    vertx.createHttpServer().requestHandler(router).exceptionHandler(context.exceptionHandler()).listen(8081);
+
+    Async async = context.async();
+    PrometheusTestHelper.tryConnect(vertx, context, 8081, "localhost", "/custom", first -> {
+      PrometheusTestHelper.tryConnect(vertx, context, 8081, "localhost", "/custom", second -> {
+        context.verify(v -> {
+          assertThat(second.toString()).isEqualTo(first.toString());
+          assertThat(BackendRegistries.getNow(registryName).get("vertx.prometheus.scrape.time").timer().count()).isEqualTo(1L);
+        });
+        async.complete();
+      });
+    });
+    async.awaitSuccess(10000);
+  }
+
+  @Test
+  public void shouldGzipScrape(TestContext context) {
+    metricsOptions = new MicrometerMetricsOptions()
+      .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true)
+        .setCompressed(true)
+        .setStartEmbeddedServer(true)
+        .setEmbeddedServerOptions(new HttpServerOptions().setPort(9090)))
+      .setRegistryName(registryName)
+      .setEnabled(true);
+
+    vertx = vertx(context);
+
+    Async async = context.async();
+    // First connection to make sure the embedded server is started
+    PrometheusTestHelper.tryConnect(vertx, context, 9090, "localhost", "/metrics", r1 ->
+      vertx.createHttpClient().request(HttpMethod.GET, 9090, "localhost", "/metrics")
+        .compose(req -> req.putHeader(HttpHeaders.ACCEPT_ENCODING, "deflate, gzip;q=0.8").send())
+        .compose(resp -> {
+          context.assertEquals("gzip", resp.getHeader(HttpHeaders.CONTENT_ENCODING));
+          return resp.body();
+        })
+        .onComplete(context.asyncAssertSuccess(body -> {
+          try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body.getBytes()))) {
+            String text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            context.verify(v -> assertThat(text).contains("vertx_http_client_"));
+          } catch (IOException e) {
+            context.fail(e);
+          }
+          async.complete();
+        })));
+    async.awaitSuccess(10000);
+  }
+
+  @Test
+  public void shouldStreamScrape(TestContext context) {
+    metricsOptions = new MicrometerMetricsOptions()
+      .setPrometheusOptions(new VertxPrometheusOptions().setEnabled(true)
+        .setStartEmbeddedServer(true)
+        .setEmbeddedServerOptions(new HttpServerOptions().setPort(9090)))
+      .setRegistryName(registryName)
+      .setEnabled(true);
+
+    vertx = vertx(context);
+
+    // Large enough to span many chunks and fill the write queue
+    MeterRegistry registry = BackendRegistries.getNow(registryName);
+    for (int i = 0; i < 20_000; i++) {
+      registry.counter("my_counter", "index", String.valueOf(i)).increment();
+    }
+
+    Async async = context.async();
+    PrometheusTestHelper.tryConnect(vertx, context, 9090, "localhost", "/metrics", r1 ->
+      vertx.createHttpClient().request(HttpMethod.GET, 9090, "localhost", "/metrics")
+        .compose(req -> req.send())
+        .compose(resp -> {
+          context.assertEquals("chunked", resp.getHeader(HttpHeaders.TRANSFER_ENCODING));
+          context.assertNull(resp.getHeader(HttpHeaders.CONTENT_LENGTH));
+          return resp.body();
+        })
+        .onComplete(context.asyncAssertSuccess(body -> {
+          context.verify(v -> assertThat(body.toString())
+            .contains("my_counter_total{index=\"0\"} 1.0")
+            .contains("my_counter_total{index=\"19999\"} 1.0"));
+          async.complete();
+        })));
+    async.awaitSuccess(10000);
+  }
+
   @Test
   public void shouldExcludeCategory(TestContext context) {
     metricsOptions = new MicrometerMetricsOptions()
@@ -186,6 +292,29 @@ public class PrometheusMetricsITest extends MicrometerMetricsTestBase {
     async.awaitSuccess(10000);
   }
 
+  @Test
+  public void shouldPublishSparseHistogramsForSelectedDomains() {
+    PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    new PrometheusBackendRegistry(new VertxPrometheusOptions().setEnabled(true)
+      .setPublishQuantiles(true)
+      .addHistogramDomains(MetricsDomain.HTTP_SERVER)
+      .addHistogramMeterNames("vertx.pool.usage")
+      .setHistogramBuckets(8), registry);
+
+    Timer.builder("vertx.http.server.response.time").register(registry).record(5, TimeUnit.MILLISECONDS);
+    Timer.builder("vertx.http.client.response.time").register(registry).record(5, TimeUnit.MILLISECONDS);
+    Timer.builder("vertx.pool.usage").register(registry).record(5, TimeUnit.MILLISECONDS);
+
+    String scrape = registry.scrape();
+    assertThat(scrape.lines().filter(line -> line.startsWith("vertx_http_server_response_time_seconds_bucket{")))
+      .hasSize(9) // 8 buckets + Inf
+      .anyMatch(line -> line.contains("le=\"0.001\""))
+      .anyMatch(line -> line.contains("le=\"30.0\""));
+    assertThat(scrape)
+      .contains("vertx_pool_usage_seconds_bucket{")
+      .doesNotContain("vertx_http_client_response_time_seconds_bucket{");
+  }
+
   @Test
   public void canMatchLabels(TestContext context) {
     metricsOptions = new MicrometerMetricsOptions()
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.tests.impl;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.micrometer.impl.BufferChunksOutputStream;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BufferChunksOutputStreamTest {
+
+  @Test
+  public void shouldSplitIntoBoundedChunks() {
+    BufferChunksOutputStream out = new BufferChunksOutputStream(4);
+    out.write("abcdefghij".getBytes(StandardCharsets.UTF_8), 0, 10);
+    out.write('k');
+
+    List<Buffer> chunks = out.chunks();
+    assertThat(chunks).extracting(Buffer::toString).containsExactly("abcd", "efgh", "ijk");
+  }
+
+  @Test
+  public void shouldNotProduceEmptyChunk() {
+    BufferChunksOutputStream out = new BufferChunksOutputStream(4);
+    out.write("abcd".getBytes(StandardCharsets.UTF_8), 0, 4);
+
+    assertThat(out.chunks()).extracting(Buffer::toString).containsExactly("abcd");
+    assertThat(new BufferChunksOutputStream().chunks()).isEmpty();
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.tests.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.micrometer.CardinalityLimit;
+import io.vertx.micrometer.Label;
+import io.vertx.micrometer.MetricsDomain;
+import io.vertx.micrometer.MetricsNaming;
+import io.vertx.micrometer.impl.tags.CardinalityGuard;
+import io.vertx.micrometer.impl.tags.CardinalityGuards;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CardinalityGuardTest {
+
+  @Test
+  public void shouldFoldValuesPastTheLimit() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    CardinalityGuard guard = new CardinalityGuard(registry, "vertx.cardinality.folded", MetricsDomain.HTTP_SERVER, Label.HTTP_PATH, 2);
+
+    assertThat(guard.apply("/a")).isEqualTo("/a");
+    assertThat(guard.apply("/b")).isEqualTo("/b");
+    assertThat(guard.apply("/c")).isEqualTo(CardinalityLimit.OVERFLOW_VALUE);
+    assertThat(guard.apply("/a")).isEqualTo("/a");
+    assertThat(guard.apply("/d")).isEqualTo(CardinalityLimit.OVERFLOW_VALUE);
+
+    assertThat(registry.get("vertx.cardinality.folded")
+      .tags("domain", "http.server", "label", "path")
+      .counter().count()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldMakeRoomForValuesReleasedByAllMeters() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    CardinalityGuard guard = new CardinalityGuard(registry, "vertx.cardinality.folded", MetricsDomain.NET_SERVER, Label.REMOTE, 1);
+
+    assertThat(guard.apply("host1")).isEqualTo("host1");
+    guard.retain("host1");
+    guard.retain("host1");
+    guard.release("host1");
+    assertThat(guard.apply("host2")).isEqualTo(CardinalityLimit.OVERFLOW_VALUE);
+
+    guard.release("host1");
+    assertThat(guard.apply("host2")).isEqualTo("host2");
+    assertThat(guard.apply("host1")).isEqualTo(CardinalityLimit.OVERFLOW_VALUE);
+
+    // Folded values are not tracked
+    guard.retain(CardinalityLimit.OVERFLOW_VALUE);
+    guard.release(CardinalityLimit.OVERFLOW_VALUE);
+    assertThat(guard.apply("host3")).isEqualTo(CardinalityLimit.OVERFLOW_VALUE);
+  }
+
+  @Test
+  public void shouldApplyDomainLessLimitsToEachDomain() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    CardinalityGuards guards = new CardinalityGuards(registry, MetricsNaming.v4Names(), Arrays.asList(
+      new CardinalityLimit().setLabel(Label.REMOTE).setMaxValues(1),
+      new CardinalityLimit().setDomain(MetricsDomain.EVENT_BUS).setLabel(Label.EB_ADDRESS).setMaxValues(1)
+    ));
+
+    CardinalityGuard netServer = guards.get(MetricsDomain.NET_SERVER, Label.REMOTE);
+    CardinalityGuard netClient = guards.get(MetricsDomain.NET_CLIENT, Label.REMOTE);
+    assertThat(netServer).isNotSameAs(netClient);
+    assertThat(netServer.apply("host1")).isEqualTo("host1");
+    assertThat(netClient.apply("host2")).isEqualTo("host2");
+    assertThat(netServer.apply("host2")).isEqualTo(CardinalityLimit.OVERFLOW_VALUE);
+
+    assertThat(guards.get(MetricsDomain.HTTP_SERVER, Label.EB_ADDRESS)).isSameAs(CardinalityGuard.NONE);
+    assertThat(guards.get(null, Label.REMOTE)).isSameAs(CardinalityGuard.NONE);
+    assertThat(registry.find("vertx.cardinality.folded").counters()).hasSize(1);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.tests.impl;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.Vertx;
+import io.vertx.micrometer.impl.CoarseClock;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CoarseClockTest {
+
+  private Vertx vertx;
+
+  @Before
+  public void setUp() {
+    vertx = Vertx.vertx();
+  }
+
+  @After
+  public void tearDown() {
+    vertx.close().await();
+  }
+
+  @Test
+  public void shouldRefreshPeriodically() throws Exception {
+    CoarseClock clock = new CoarseClock(5, TimeUnit.MILLISECONDS);
+    long initial = clock.monotonicTime();
+    Thread.sleep(20);
+    // Not started: time is frozen
+    assertThat(clock.monotonicTime()).isEqualTo(initial);
+
+    clock.start(vertx);
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (clock.monotonicTime() == initial && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    long refreshed = clock.monotonicTime();
+    assertThat(refreshed).isGreaterThan(initial).isLessThanOrEqualTo(System.nanoTime());
+
+    clock.stop();
+    Thread.sleep(20);
+    long stopped = clock.monotonicTime();
+    Thread.sleep(20);
+    assertThat(clock.monotonicTime()).isEqualTo(stopped);
+  }
+
+  @Test
+  public void shouldRefreshOnFirstReadAfterIdlePeriod() throws Exception {
+    CoarseClock clock = new CoarseClock(5, TimeUnit.MILLISECONDS);
+    clock.start(vertx);
+    clock.monotonicTime();
+    // Without reads, the timer is not rescheduled
+    Thread.sleep(100);
+    long before = System.nanoTime();
+    assertThat(clock.monotonicTime()).isGreaterThanOrEqualTo(before);
+    clock.stop();
+  }
+
+  @Test
+  public void shouldKeepRefreshingAfterReaderIsUndeployed() throws Exception {
+    CoarseClock clock = new CoarseClock(5, TimeUnit.MILLISECONDS);
+    clock.start(vertx);
+    // The first read schedules the timer, from the context of the verticle
+    String deploymentId = vertx.deployVerticle(new AbstractVerticle() {
+      @Override
+      public void start() {
+        clock.monotonicTime();
+      }
+    }).await();
+    vertx.undeploy(deploymentId).await();
+
+    long before = System.nanoTime();
+    long deadline = before + TimeUnit.SECONDS.toNanos(5);
+    while (clock.monotonicTime() < before && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+    assertThat(clock.monotonicTime()).isGreaterThanOrEqualTo(before);
+    clock.stop();
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.tests.impl;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.micrometer.DistributionRule;
+import io.vertx.micrometer.MetricsDomain;
+import io.vertx.micrometer.MicrometerMetricsOptions;
+import io.vertx.micrometer.impl.DistributionRulesFilter;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DistributionRulesFilterTest {
+
+  @Test
+  public void shouldApplyRulesByDomainAndName() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    // Same as Prometheus publishQuantiles
+    registry.config().meterFilter(new MeterFilter() {
+      @Override
+      public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        return DistributionStatisticConfig.builder().percentilesHistogram(true).build().merge(config);
+      }
+    });
+    registry.config().meterFilter(new DistributionRulesFilter(Arrays.asList(
+      new DistributionRule().setName("vertx.http.server.response.time").addServiceLevelObjective(10).addServiceLevelObjective(100)
+        .setPercentilesHistogram(false),
+      new DistributionRule().setDomain(MetricsDomain.NAMED_POOLS).setName("vertx.pool.*").setPercentilesHistogram(false),
+      new DistributionRule().setDomain(MetricsDomain.NAMED_POOLS).setPercentilesHistogram(true)
+    )));
+
+    Timer responseTime = Timer.builder("vertx.http.server.response.time").register(registry);
+    responseTime.record(50, TimeUnit.MILLISECONDS);
+    assertThat(responseTime.takeSnapshot().histogramCounts())
+      .extracting(CountAtBucket::bucket)
+      .containsExactly((double) TimeUnit.MILLISECONDS.toNanos(10), (double) TimeUnit.MILLISECONDS.toNanos(100));
+
+    // First matching rule takes precedence
+    Timer poolUsage = Timer.builder("vertx.pool.usage").register(registry);
+    poolUsage.record(50, TimeUnit.MILLISECONDS);
+    assertThat(poolUsage.takeSnapshot().histogramCounts()).isEmpty();
+
+    Timer clientResponseTime = Timer.builder("vertx.http.client.response.time").register(registry);
+    clientResponseTime.record(50, TimeUnit.MILLISECONDS);
+    assertThat(clientResponseTime.takeSnapshot().histogramCounts()).isNotEmpty();
+  }
+
+  @Test
+  public void shouldConfigureClientSidePercentiles() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    registry.config().meterFilter(new DistributionRulesFilter(Arrays.asList(
+      new DistributionRule().setDomain(MetricsDomain.NAMED_POOLS).addPercentile(0.5).addPercentile(0.99)
+        .setExpiry(60_000L).setBufferLength(2).setPercentilePrecision(1)
+    )));
+
+    Timer queueTime = Timer.builder("vertx.pool.queue.time").register(registry);
+    for (int i = 1; i <= 100; i++) {
+      queueTime.record(i, TimeUnit.MILLISECONDS);
+    }
+    assertThat(queueTime.takeSnapshot().percentileValues())
+      .extracting(ValueAtPercentile::percentile)
+      .containsExactly(0.5, 0.99);
+    assertThat(queueTime.takeSnapshot().percentileValues()[1].value(TimeUnit.MILLISECONDS)).isGreaterThan(50);
+
+    Timer responseTime = Timer.builder("vertx.http.server.response.time").register(registry);
+    responseTime.record(50, TimeUnit.MILLISECONDS);
+    assertThat(responseTime.takeSnapshot().percentileValues()).isEmpty();
+  }
+
+  @Test
+  public void shouldLoadRulesFromJson() {
+    MicrometerMetricsOptions options = new MicrometerMetricsOptions()
+      .addDistributionRule(new DistributionRule()
+        .setDomain(MetricsDomain.HTTP_SERVER)
+        .setName("vertx.http.server.response.time")
+        .addServiceLevelObjective(10)
+        .setMinimumExpectedValue(1.0)
+        .setMaximumExpectedValue(1000.0)
+        .setPercentilePrecision(2)
+        .setBufferLength(3)
+        .setPercentilesHistogram(true)
+        .addPercentile(0.99)
+        .setExpiry(60_000L));
+
+    MicrometerMetricsOptions copy = new MicrometerMetricsOptions(options.toJson());
+
+    assertThat(copy.getDistributionRules()).hasSize(1);
+    assertThat(copy.getDistributionRules().get(0).toJson()).isEqualTo(options.getDistributionRules().get(0).toJson());
+  }
+}
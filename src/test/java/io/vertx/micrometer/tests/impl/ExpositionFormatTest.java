@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.tests.impl;
+
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.micrometer.impl.ExpositionFormat;
+import io.vertx.micrometer.impl.PrometheusScraper;
+import org.junit.Test;
+
+import java.util.List;
+
+import static io.vertx.micrometer.impl.ExpositionFormat.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ExpositionFormatTest {
+
+  private static final String PROMETHEUS_ACCEPT = "application/openmetrics-text;version=1.0.0,application/openmetrics-text;version=0.0.1;q=0.75,text/plain;version=0.0.4;q=0.5,*/*;q=0.1";
+
+  @Test
+  public void shouldNegotiateFormat() {
+    assertThat(ExpositionFormat.negotiate(null)).isEqualTo(TEXT);
+    assertThat(ExpositionFormat.negotiate("*/*")).isEqualTo(TEXT);
+    assertThat(ExpositionFormat.negotiate("application/json")).isEqualTo(TEXT);
+    assertThat(ExpositionFormat.negotiate(PROMETHEUS_ACCEPT)).isEqualTo(OPEN_METRICS);
+    assertThat(ExpositionFormat.negotiate("application/openmetrics-text;q=0.2,text/plain;q=0.5")).isEqualTo(TEXT);
+    assertThat(ExpositionFormat.negotiate("application/openmetrics-text;q=0,text/plain;q=0.5")).isEqualTo(TEXT);
+  }
+
+  @Test
+  public void shouldNegotiateProtobufOnlyWithDelimitedMetricFamilies() {
+    assertThat(ExpositionFormat.negotiate("application/vnd.google.protobuf;proto=io.prometheus.client.MetricFamily;encoding=text,text/plain;q=0.5"))
+      .isEqualTo(TEXT);
+    assertThat(ExpositionFormat.negotiate("application/vnd.google.protobuf;proto=io.prometheus.client.MetricFamily;encoding=delimited,text/plain;q=0.5"))
+      .isIn(PROTOBUF, TEXT);
+  }
+
+  @Test
+  public void shouldRenderEachFormat() {
+    PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+    registry.counter("my_counter", "code", "200").increment(3);
+    PrometheusScraper scraper = new PrometheusScraper(registry);
+
+    assertThat(render(scraper, TEXT))
+      .contains("# TYPE my_counter_total counter")
+      .contains("my_counter_total{code=\"200\"} 3.0")
+      .doesNotContain("# EOF");
+    assertThat(render(scraper, OPEN_METRICS))
+      .contains("# TYPE my_counter counter")
+      .contains("my_counter_total{code=\"200\"} 3.0")
+      .endsWith("# EOF\n");
+    if (ExpositionFormat.negotiate(PROTOBUF.contentType()) == PROTOBUF) {
+      assertThat(render(scraper, PROTOBUF))
+        .contains("my_counter")
+        .doesNotContain("# TYPE");
+    }
+  }
+
+  private static String render(PrometheusScraper scraper, ExpositionFormat format) {
+    List<Buffer> chunks = scraper.scrape(format, false).result();
+    Buffer body = Buffer.buffer();
+    chunks.forEach(body::appendBuffer);
+    return body.toString();
+  }
+}
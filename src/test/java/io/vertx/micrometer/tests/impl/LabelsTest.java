@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.tests.impl;
+
+import io.micrometer.core.instrument.Tag;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.micrometer.impl.tags.Labels;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LabelsTest {
+
+  @Test
+  public void shouldShareStatusCodeTags() {
+    assertThat(Labels.statusCode(200)).isEqualTo(Tag.of("code", "200")).isSameAs(Labels.statusCode(200));
+    assertThat(Labels.statusCode(599)).isSameAs(Labels.statusCode(599));
+    assertThat(Labels.statusCode(999)).isEqualTo(Tag.of("code", "999"));
+  }
+
+  @Test
+  public void shouldShareMethodTags() {
+    assertThat(Labels.method(HttpMethod.GET)).isEqualTo(Tag.of("method", "GET")).isSameAs(Labels.method(HttpMethod.GET));
+    assertThat(Labels.method(HttpMethod.valueOf("PURGE"))).isEqualTo(Tag.of("method", "PURGE"));
+  }
+
+  @Test
+  public void shouldShareClassNameTags() {
+    Tag tag = Labels.className(new IllegalStateException());
+    assertThat(tag).isEqualTo(Tag.of("class", "IllegalStateException"));
+    assertThat(Labels.className(new IllegalStateException("other"))).isSameAs(tag);
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.tests.impl;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.micrometer.impl.MeterCache;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MeterCacheTest {
+
+  @Test
+  public void shouldResolveOnceForSameTags() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    MeterCache<Tags, Counter> cache = new MeterCache<>(true);
+    AtomicInteger resolutions = new AtomicInteger();
+    for (int i = 0; i < 10; i++) {
+      cache.get(Tags.of("code", "200"), tags -> {
+        resolutions.incrementAndGet();
+        return registry.counter("my_counter", tags);
+      }).increment();
+    }
+
+    assertThat(resolutions.get()).isEqualTo(1);
+    assertThat(registry.get("my_counter").tags("code", "200").counter().count()).isEqualTo(10d);
+  }
+
+  @Test
+  public void shouldNotRetainMoreThanMaxSize() {
+    MeterCache<String, String> cache = new MeterCache<>(2);
+    for (int i = 0; i < 5; i++) {
+      String key = String.valueOf(i);
+      assertThat(cache.get(key, k -> "value-" + k)).isEqualTo("value-" + key);
+    }
+
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotRetainWhenDisabled() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    MeterCache<Tags, Counter> cache = new MeterCache<>(false);
+    cache.get(Tags.of("code", "200"), tags -> registry.counter("my_counter", tags)).increment();
+    cache.get(Tags.of("code", "200"), tags -> registry.counter("my_counter", tags)).increment();
+
+    assertThat(cache.size()).isZero();
+    assertThat(registry.get("my_counter").tags("code", "200").counter().count()).isEqualTo(2d);
+  }
+
+  @Test
+  public void shouldClearWhenMetersAreRemoved() {
+    AtomicInteger removals = new AtomicInteger();
+    MeterCache<String, String> cache = new MeterCache<>(MeterCache.DEFAULT_MAX_SIZE, removals::get);
+    cache.get("a", k -> "first");
+    assertThat(cache.get("a", k -> "second")).isEqualTo("first");
+
+    removals.incrementAndGet();
+    assertThat(cache.get("a", k -> "second")).isEqualTo("second");
+    assertThat(cache.get("a", k -> "third")).isEqualTo("second");
+  }
+
+  @Test
+  public void shouldKeepRecentKeysPastMaxSize() {
+    MeterCache<String, String> cache = new MeterCache<>(MeterCache.DEFAULT_MAX_SIZE);
+    AtomicInteger resolutions = new AtomicInteger();
+    for (int i = 0; i < 4 * MeterCache.DEFAULT_MAX_SIZE; i++) {
+      cache.get(String.valueOf(i), k -> {
+        resolutions.incrementAndGet();
+        return "value-" + k;
+      });
+    }
+    assertThat(cache.size()).isLessThanOrEqualTo(MeterCache.DEFAULT_MAX_SIZE);
+
+    // The most recent key of each segment is still cached
+    int resolved = resolutions.get();
+    String recent = String.valueOf(4 * MeterCache.DEFAULT_MAX_SIZE - 1);
+    assertThat(cache.get(recent, k -> "other")).isEqualTo("value-" + recent);
+    assertThat(resolutions.get()).isEqualTo(resolved);
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.tests.impl;
+
+import io.vertx.micrometer.impl.tags.PathNormalizer;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PathNormalizerTest {
+
+  @Test
+  public void shouldReplaceVariableSegments() {
+    PathNormalizer normalizer = new PathNormalizer(Collections.emptyList());
+
+    assertThat(normalizer.normalize("/users/123/orders/456")).isEqualTo("/users/{id}/orders/{id}");
+    assertThat(normalizer.normalize("/items/3f2b9c1e-5d4a-4c8e-9b7f-0123456789ab")).isEqualTo("/items/{uuid}");
+    assertThat(normalizer.normalize("/commits/9a77213f")).isEqualTo("/commits/{hex}");
+    assertThat(normalizer.normalize("/blobs/0x1f")).isEqualTo("/blobs/0x1f");
+    // Hex-like words without digits are kept
+    assertThat(normalizer.normalize("/api/deadbeef/facade")).isEqualTo("/api/deadbeef/facade");
+    assertThat(normalizer.normalize("/users/")).isEqualTo("/users/");
+    assertThat(normalizer.normalize("/")).isEqualTo("/");
+    assertThat(normalizer.normalize("")).isEqualTo("");
+  }
+
+  @Test
+  public void shouldMatchTemplates() {
+    PathNormalizer normalizer = new PathNormalizer(Arrays.asList(
+      "/users/{id}",
+      "/users/me",
+      "/users/{id}/orders/{order}",
+      "/files/{name}/raw"
+    ));
+
+    assertThat(normalizer.normalize("/users/john")).isEqualTo("/users/{id}");
+    assertThat(normalizer.normalize("/users/me")).isEqualTo("/users/me");
+    assertThat(normalizer.normalize("/users/john/orders/abc")).isEqualTo("/users/{id}/orders/{order}");
+    assertThat(normalizer.normalize("/users/me/orders/abc")).isEqualTo("/users/{id}/orders/{order}");
+    assertThat(normalizer.normalize("/files/readme.md/raw")).isEqualTo("/files/{name}/raw");
+    // Not matching any template: segments are replaced individually
+    assertThat(normalizer.normalize("/files/42")).isEqualTo("/files/{id}");
+    assertThat(normalizer.normalize("/users/")).isEqualTo("/users/");
+    assertThat(normalizer.normalize("/users/john/orders")).isEqualTo("/users/john/orders");
+  }
+
+  @Test
+  public void shouldGiveLiteralsPrecedenceFromLeftToRight() {
+    PathNormalizer normalizer = new PathNormalizer(Arrays.asList(
+      "/a/{x}/c",
+      "/a/b/{y}",
+      "/a/{x}/{z}/d"
+    ));
+
+    assertThat(normalizer.normalize("/a/b/c")).isEqualTo("/a/b/{y}");
+    assertThat(normalizer.normalize("/a/q/c")).isEqualTo("/a/{x}/c");
+    assertThat(normalizer.normalize("/a/b/e")).isEqualTo("/a/b/{y}");
+    // Only reachable through the variable after a literal prefix was taken
+    assertThat(normalizer.normalize("/a/b/c/d")).isEqualTo("/a/{x}/{z}/d");
+    assertThat(normalizer.normalize("/a/q/e")).isEqualTo("/a/q/e");
+  }
+
+  @Test
+  public void shouldMatchOverlappingTemplates() {
+    // Each template has a literal at another position: the automaton has a state per subset of templates
+    List<String> templates = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      StringBuilder template = new StringBuilder();
+      for (int j = 0; j < 20; j++) {
+        template.append('/').append(i == j ? "s" + j : "{v}");
+      }
+      templates.add(template.toString());
+    }
+    PathNormalizer normalizer = new PathNormalizer(templates);
+
+    // Paths reaching more states than are kept: segment j is the literal of template j when bit j is set
+    for (int i = 0; i < 2 * PathNormalizer.MAX_STATES; i++) {
+      StringBuilder path = new StringBuilder();
+      for (int j = 0; j < 20; j++) {
+        path.append('/').append((i & (1 << j)) != 0 ? "s" + j : "x");
+      }
+      String expected = i == 0 ? path.toString() : templates.get(Integer.numberOfTrailingZeros(i));
+      assertThat(normalizer.normalize(path.toString())).isEqualTo(expected);
+    }
+  }
+}
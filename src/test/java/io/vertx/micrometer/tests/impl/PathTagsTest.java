@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.tests.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.micrometer.CardinalityLimit;
+import io.vertx.micrometer.Label;
+import io.vertx.micrometer.MetricsDomain;
+import io.vertx.micrometer.impl.PathTags;
+import io.vertx.micrometer.impl.tags.CardinalityGuard;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PathTagsTest {
+
+  @Test
+  public void shouldReuseTagsOfSamePath() {
+    PathTags pathTags = new PathTags(null, CardinalityGuard.NONE, true);
+
+    Tag tag = pathTags.get("/users/42?expand=true");
+    assertThat(tag).isEqualTo(Tag.of("path", "/users/42"));
+    assertThat(pathTags.get("/users/42")).isSameAs(tag);
+    assertThat(pathTags.get("http://example.com/users/42?page=2")).isSameAs(tag);
+    assertThat(pathTags.get("http://example.com").getValue()).isEqualTo("/");
+    assertThat(pathTags.get("http://example.com?page=2").getValue()).isEqualTo("/");
+    assertThat(pathTags.get("").getValue()).isEqualTo("");
+  }
+
+  @Test
+  public void shouldCountFoldedPathsOnEachRequest() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    CardinalityGuard guard = new CardinalityGuard(registry, "vertx.cardinality.folded", MetricsDomain.HTTP_SERVER, Label.HTTP_PATH, 1);
+    PathTags pathTags = new PathTags(null, guard, true);
+
+    assertThat(pathTags.get("/a").getValue()).isEqualTo("/a");
+    assertThat(pathTags.get("/b").getValue()).isEqualTo(CardinalityLimit.OVERFLOW_VALUE);
+    assertThat(pathTags.get("/b?x=1").getValue()).isEqualTo(CardinalityLimit.OVERFLOW_VALUE);
+    assertThat(pathTags.get("/a?x=1").getValue()).isEqualTo("/a");
+
+    assertThat(registry.get("vertx.cardinality.folded").counter().count()).isEqualTo(2);
+  }
+}
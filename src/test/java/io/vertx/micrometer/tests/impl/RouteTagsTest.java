@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.tests.impl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.micrometer.CardinalityLimit;
+import io.vertx.micrometer.Label;
+import io.vertx.micrometer.MetricsDomain;
+import io.vertx.micrometer.impl.RouteTags;
+import io.vertx.micrometer.impl.tags.CardinalityGuard;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RouteTagsTest {
+
+  @Test
+  public void shouldInternRouteChains() {
+    RouteTags routeTags = new RouteTags(CardinalityGuard.NONE, true);
+
+    RouteTags.Chain chain = routeTags.root().next("/api").next("/users").next("/:id");
+    assertThat(chain.value()).isEqualTo("/api>/users>/:id");
+    assertThat(chain.tag()).isEqualTo(Tag.of("route", "/api>/users>/:id"));
+    assertThat(routeTags.root().next("/api").next("/users").next("/:id")).isSameAs(chain);
+    assertThat(chain.tag()).isSameAs(chain.tag());
+    assertThat(routeTags.root().value()).isEmpty();
+    assertThat(routeTags.root().next("").next("/x").value()).isEqualTo(">/x");
+  }
+
+  @Test
+  public void shouldResolveChainsWhenCacheDisabled() {
+    RouteTags routeTags = new RouteTags(CardinalityGuard.NONE, false);
+
+    RouteTags.Chain chain = routeTags.root().next("/api").next("/users");
+    assertThat(chain.value()).isEqualTo("/api>/users");
+    assertThat(routeTags.root().next("/api").next("/users")).isNotSameAs(chain);
+  }
+
+  @Test
+  public void shouldFoldRoutesPastTheLimit() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    CardinalityGuard guard = new CardinalityGuard(registry, "vertx.cardinality.folded", MetricsDomain.HTTP_SERVER, Label.HTTP_ROUTE, 1);
+    RouteTags routeTags = new RouteTags(guard, true);
+
+    assertThat(routeTags.root().next("/a").tag().getValue()).isEqualTo("/a");
+    assertThat(routeTags.root().next("/b").tag().getValue()).isEqualTo(CardinalityLimit.OVERFLOW_VALUE);
+    assertThat(routeTags.root().next("/b").tag().getValue()).isEqualTo(CardinalityLimit.OVERFLOW_VALUE);
+
+    assertThat(registry.get("vertx.cardinality.folded").counter().count()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.tests.impl;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.vertx.micrometer.impl.tags.TagTuple;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TagTupleTest {
+
+  @Test
+  public void shouldMergeTags() {
+    Tags base = Tags.of("local", "localhost:8080");
+    TagTuple tuple = new TagTuple(base, Tag.of("path", "/users"), null, Tag.of("method", "GET"));
+
+    assertThat(tuple.toTags()).isEqualTo(Tags.of("local", "localhost:8080", "path", "/users", "method", "GET"));
+    assertThat(new TagTuple(base, null, null, null).toTags()).isSameAs(base);
+  }
+
+  @Test
+  public void shouldCompareByValue() {
+    TagTuple tuple = new TagTuple(Tags.of("local", "localhost:8080"), Tag.of("path", "/users"), null, null);
+
+    assertThat(tuple)
+      .isEqualTo(new TagTuple(Tags.of("local", "localhost:8080"), Tag.of("path", "/users"), null, null))
+      .hasSameHashCodeAs(new TagTuple(Tags.of("local", "localhost:8080"), Tag.of("path", "/users"), null, null))
+      .isNotEqualTo(new TagTuple(Tags.of("local", "localhost:8080"), null, Tag.of("path", "/users"), null))
+      .isNotEqualTo(new TagTuple(Tags.of("local", "localhost:8081"), Tag.of("path", "/users"), null, null));
+  }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.tests.impl.meters;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.micrometer.impl.meters.ConfinedCounter;
+import io.vertx.micrometer.impl.meters.ConfinedCounters;
+import io.vertx.micrometer.impl.meters.GaugeStore;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConfinedCountersTest {
+
+  private final ConfinedCounters confinedCounters = new ConfinedCounters(new GaugeStore());
+
+  @Test
+  public void shouldSumOpenAndClosedCells() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    ConfinedCounter.Cell c1 = confinedCounters.register(registry, "bytes", "Bytes", Tags.of("remote", "a")).open();
+    ConfinedCounter.Cell c2 = confinedCounters.register(registry, "bytes", "Bytes", Tags.of("remote", "a")).open();
+    ConfinedCounter.Cell c3 = confinedCounters.register(registry, "bytes", "Bytes", Tags.of("remote", "b")).open();
+    c1.increment(10);
+    c1.increment(5);
+    c2.increment(7);
+    c3.increment(1);
+
+    FunctionCounter a = registry.get("bytes").tags("remote", "a").functionCounter();
+    assertThat(a.count()).isEqualTo(22d);
+    assertThat(registry.get("bytes").tags("remote", "b").functionCounter().count()).isEqualTo(1d);
+
+    c1.close();
+    assertThat(a.count()).isEqualTo(22d);
+    c2.increment(3);
+    c2.close();
+    assertThat(a.count()).isEqualTo(25d);
+
+    // Closing twice does not count twice
+    c2.close();
+    assertThat(a.count()).isEqualTo(25d);
+  }
+
+  @Test
+  public void shouldCountFromOwningThreads() throws Exception {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    ConfinedCounter counter = confinedCounters.register(registry, "bytes", "Bytes", Tags.empty());
+    Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      ConfinedCounter.Cell cell = counter.open();
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 10_000; j++) {
+          cell.increment(1);
+        }
+        if (cell.hashCode() % 2 == 0) {
+          cell.close();
+        }
+      });
+      threads[i].start();
+    }
+    double previous = 0;
+    FunctionCounter meter = registry.get("bytes").functionCounter();
+    for (Thread thread : threads) {
+      while (thread.isAlive()) {
+        double count = meter.count();
+        assertThat(count).isGreaterThanOrEqualTo(previous);
+        previous = count;
+      }
+      thread.join();
+    }
+    assertThat(meter.count()).isEqualTo(40_000d);
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 Red Hat, Inc. and/or its affiliates
+ * and other contributors as indicated by the @author tags.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.vertx.micrometer.tests.impl.meters;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.micrometer.impl.meters.GaugeStore;
+import io.vertx.micrometer.impl.meters.LongGauges;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GaugeStoreTest {
+
+  @Test
+  public void shouldKeepOneStorePerRegistry() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    GaugeStore store = GaugeStore.of(registry);
+
+    assertThat(GaugeStore.of(registry)).isSameAs(store);
+    assertThat(GaugeStore.of(new SimpleMeterRegistry())).isNotSameAs(store);
+  }
+
+  @Test
+  public void shouldShareSlotsOfSameMeter() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    LongGauges longGauges = new LongGauges(GaugeStore.of(registry));
+    LongAdder g1 = longGauges.builder("my_gauge", LongAdder::doubleValue).tags(Tags.of("a", "1")).register(registry);
+    LongAdder g2 = longGauges.builder("my_gauge", LongAdder::doubleValue).tags(Tags.of("a", "1")).register(registry);
+    LongAdder g3 = longGauges.builder("my_gauge", LongAdder::doubleValue).tags(Tags.of("a", "2")).register(registry);
+
+    assertThat(g2).isSameAs(g1);
+    assertThat(g3).isNotSameAs(g1);
+    g1.increment();
+    g2.increment();
+    assertThat(registry.get("my_gauge").tags("a", "1").gauge().value()).isEqualTo(2d);
+  }
+
+  @Test
+  public void shouldRemoveSlotsOfRemovedMeters() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    GaugeStore store = GaugeStore.of(registry);
+    LongGauges longGauges = new LongGauges(store);
+    LongAdder g1 = longGauges.builder("my_gauge", LongAdder::doubleValue).register(registry);
+    g1.increment();
+    assertThat(store.size()).isEqualTo(1);
+
+    Gauge gauge = registry.get("my_gauge").gauge();
+    registry.remove(gauge);
+    assertThat(store.size()).isEqualTo(0);
+
+    // Registered again, the gauge starts from a new slot
+    LongAdder g2 = longGauges.builder("my_gauge", LongAdder::doubleValue).register(registry);
+    assertThat(g2).isNotSameAs(g1);
+    assertThat(registry.get("my_gauge").gauge().value()).isEqualTo(0d);
+  }
+
+  @Test
+  public void shouldCountRemovalsPerName() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    GaugeStore store = GaugeStore.of(registry);
+    IntSupplier removals = store.removals("my_gauge", "my_counter");
+    int initial = removals.getAsInt();
+
+    registry.remove(registry.counter("other_counter"));
+    assertThat(removals.getAsInt()).isEqualTo(initial);
+
+    registry.remove(registry.counter("my_counter"));
+    assertThat(removals.getAsInt()).isNotEqualTo(initial);
+  }
+
+  @Test
+  public void shouldDeriveFromLatestSource() {
+    MeterRegistry registry = new SimpleMeterRegistry();
+    LongGauges longGauges = new LongGauges(GaugeStore.of(registry));
+    LongAdder first = longGauges.builder("in_use", LongAdder::doubleValue).register(registry);
+    longGauges.registerDerived(registry, "ratio", "Ratio", Tags.empty(), first, adder -> adder.doubleValue() / 10);
+    first.increment();
+    assertThat(registry.get("ratio").gauge().value()).isEqualTo(0.1d);
+
+    // The source gauge is registered again with a new adder, the derived gauge follows it
+    registry.remove(registry.get("in_use").gauge());
+    LongAdder second = longGauges.builder("in_use", LongAdder::doubleValue).register(registry);
+    longGauges.registerDerived(registry, "ratio", "Ratio", Tags.empty(), second, adder -> adder.doubleValue() / 10);
+    second.add(5);
+    assertThat(registry.get("ratio").gauge().value()).isEqualTo(0.5d);
+  }
+}
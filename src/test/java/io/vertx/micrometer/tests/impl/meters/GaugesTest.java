@@ -25,11 +25,11 @@ import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.vertx.micrometer.Match;
 import io.vertx.micrometer.MatchType;
 import io.vertx.micrometer.backends.BackendRegistries;
+import io.vertx.micrometer.impl.meters.GaugeStore;
 import io.vertx.micrometer.impl.meters.LongGauges;
 import org.junit.Test;
 
 import java.util.Collections;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.LongAdder;
 
 import static io.vertx.micrometer.Label.EB_ADDRESS;
@@ -40,7 +40,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  */
 public class GaugesTest {
 
-  private LongGauges longGauges = new LongGauges(new ConcurrentHashMap<>());
+  private LongGauges longGauges = new LongGauges(new GaugeStore());
 
   @Test
   public void shouldAliasGaugeLabel() {